@@ -0,0 +1,21 @@
+package net.priimak.qe;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar. Accepts all of the usual JMH command line options and always adds GC profiler
+ * so that allocation rates are reported alongside timings.
+ */
+public final class BenchmarkMain {
+    private BenchmarkMain() {
+        throw new AssertionError();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder().parent(new CommandLineOptions(args)).addProfiler(GCProfiler.class).build())
+            .run();
+    }
+}
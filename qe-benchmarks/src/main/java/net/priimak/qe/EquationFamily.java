@@ -0,0 +1,96 @@
+package net.priimak.qe;
+
+import java.util.Random;
+
+/**
+ * Families of quadratic equations used as inputs of benchmarks.
+ */
+public enum EquationFamily {
+    /**
+     * Equations with two well separated real roots and parameters of order of 1.
+     */
+    WELL_CONDITIONED {
+        @Override
+        QuadraticEquation create(Random random, int index) {
+            double a = random.nextGaussian();
+            double x1 = random.nextGaussian();
+            double x2 = x1 + 1 + random.nextDouble();
+            return new QuadraticEquation(a, -a * (x1 + x2), a * x1 * x2);
+        }
+    },
+
+    /**
+     * Equations x^2 - (2 + e)x + 1 + e = 0 with roots 1 and 1 + e, where e is close to 2.897595e-8, same as
+     * 2.000000028975950..969 family of {@code TestSolvers}.
+     */
+    NEAR_DOUBLE_ROOT {
+        @Override
+        QuadraticEquation create(Random random, int index) {
+            double e = 2.8975950e-8 + (index % 20) * 1.0e-15;
+            return new QuadraticEquation(1.0, -(2 + e), 1 + e);
+        }
+    },
+
+    /**
+     * Equations with parameters spread over the whole range of exponents of double.
+     */
+    EXTREME_EXPONENT {
+        @Override
+        QuadraticEquation create(Random random, int index) {
+            return new QuadraticEquation(
+                random.nextGaussian() * Math.pow(10, random.nextInt(601) - 300),
+                random.nextGaussian() * Math.pow(10, random.nextInt(601) - 300),
+                random.nextGaussian() * Math.pow(10, random.nextInt(601) - 300)
+            );
+        }
+    },
+
+    /**
+     * Equations where one or more of the parameters is 0.
+     */
+    CORNER_CASE {
+        @Override
+        QuadraticEquation create(Random random, int index) {
+            int zeros = 1 + random.nextInt(7);
+            return new QuadraticEquation(
+                (zeros & 1) == 0 ? random.nextGaussian() : 0,
+                (zeros & 2) == 0 ? random.nextGaussian() : 0,
+                (zeros & 4) == 0 ? random.nextGaussian() : 0
+            );
+        }
+    },
+
+    /**
+     * Mix of the other families resembling real-world feeds, 15% of equations are corner cases, 5% have near double
+     * roots and 5% extreme exponents, the rest are well conditioned.
+     */
+    MIXED {
+        @Override
+        QuadraticEquation create(Random random, int index) {
+            int percentile = random.nextInt(100);
+            if (percentile < 15) {
+                return CORNER_CASE.create(random, index);
+            } else if (percentile < 20) {
+                return NEAR_DOUBLE_ROOT.create(random, index);
+            } else if (percentile < 25) {
+                return EXTREME_EXPONENT.create(random, index);
+            } else {
+                return WELL_CONDITIONED.create(random, index);
+            }
+        }
+    };
+
+    abstract QuadraticEquation create(Random random, int index);
+
+    /**
+     * @return reproducible set of {@code size} equations of this family.
+     */
+    QuadraticEquation[] equations(int size) {
+        Random random = new Random(size);
+        QuadraticEquation[] equations = new QuadraticEquation[size];
+        for (int i = 0; i < size; i++) {
+            equations[i] = create(random, i);
+        }
+        return equations;
+    }
+}
@@ -0,0 +1,214 @@
+package net.priimak.qe;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.priimak.numeric.Value;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of every solver and of the error deduction and evaluation paths. Every invocation processes
+ * {@link #SIZE} equations of the given {@link EquationFamily}, scores are reported per equation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuadraticEquationBenchmarks {
+    static final int SIZE = 64;
+
+    /**
+     * Relative error requested from {@link NewQadraticEquationSolver}, same as in {@code TestSolvers}.
+     */
+    private static final double MAXIMUM_RELATIVE_ERROR = 1.0E-20;
+
+    @Param
+    public EquationFamily family;
+
+    private QuadraticEquation[] equations;
+    private double[][] roots;
+    private double[] points;
+
+    private double[] a;
+    private double[] b;
+    private double[] c;
+    private double[] root1;
+    private double[] root2;
+    private double[] imaginary;
+    private double[] values;
+    private int[] rootCount;
+    private byte[] status;
+
+    @Setup
+    public void setUp() {
+        equations = family.equations(SIZE);
+        roots = new double[SIZE][];
+        points = new double[SIZE];
+        a = new double[SIZE];
+        b = new double[SIZE];
+        c = new double[SIZE];
+        root1 = new double[SIZE];
+        root2 = new double[SIZE];
+        imaginary = new double[SIZE];
+        values = new double[SIZE];
+        rootCount = new int[SIZE];
+        status = new byte[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            QuadraticEquation equation = equations[i];
+            a[i] = equation.getA();
+            b[i] = equation.getB();
+            c[i] = equation.getC();
+            try {
+                roots[i] = CitardauqQuadraticEquationSolver.INSTANCE.solve(equation);
+            } catch (OutOfNumericRange outOfNumericRange) {
+                roots[i] = QuadraticEquationSolverFactory.NO_SOLUTIONS;
+            }
+            points[i] = roots[i].length == 0 ? 1.0 : roots[i][0];
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void simple(Blackhole blackhole) {
+        solve(SimpleQuadraticEquationSolver.INSTANCE, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void citardauq(Blackhole blackhole) {
+        solve(CitardauqQuadraticEquationSolver.INSTANCE, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void citardauqBatch(Blackhole blackhole) {
+        CitardauqQuadraticEquationSolver.INSTANCE.solve(a, b, c, 0, SIZE, root1, root2, rootCount, status);
+        blackhole.consume(root1);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void citardauqComplexBatch(Blackhole blackhole) {
+        CitardauqQuadraticEquationSolver.INSTANCE.solveComplex(
+            a, b, c, 0, SIZE, root1, root2, imaginary, rootCount, status
+        );
+        blackhole.consume(imaginary);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void adaptive(Blackhole blackhole) {
+        solve(AdaptiveQuadraticEquationSolver.DEFAULT, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void adaptiveBatch(Blackhole blackhole) {
+        AdaptiveQuadraticEquationSolver.DEFAULT.solve(a, b, c, 0, SIZE, root1, root2, rootCount, status);
+        blackhole.consume(root1);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void extendedRange(Blackhole blackhole) {
+        solve(ExtendedRangeQuadraticEquationSolver.INSTANCE, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void simpleAp(Blackhole blackhole) {
+        solve(SimpleApQuadraticEquationSolver.INSTANCE, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void citardauqAp(Blackhole blackhole) {
+        solve(CitardauqQuadraticApEquationSolver.INSTANCE, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void newSolver(Blackhole blackhole) {
+        for (QuadraticEquation equation : equations) {
+            try {
+                List<Value<Double>> solution = NewQadraticEquationSolver.INSTANCE.solve(equation, MAXIMUM_RELATIVE_ERROR);
+                blackhole.consume(solution);
+            } catch (OutOfNumericRange outOfNumericRange) {
+                blackhole.consume(outOfNumericRange);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void newSolverRoots(Blackhole blackhole) {
+        for (QuadraticEquation equation : equations) {
+            try {
+                blackhole.consume(NewQadraticEquationSolver.INSTANCE.solveRoots(equation, MAXIMUM_RELATIVE_ERROR));
+            } catch (OutOfNumericRange outOfNumericRange) {
+                blackhole.consume(outOfNumericRange);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void deduceError(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++) {
+            blackhole.consume(QuadraticEquation.deduceErrors(equations[i], roots[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void simplify(Blackhole blackhole) {
+        for (QuadraticEquation equation : equations) {
+            blackhole.consume(QuadraticEquation.simplify(equation));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void evaluatorCompute(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++) {
+            blackhole.consume(QuadraticEquationEvaluator.compute(equations[i], points[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void evaluatorBatch(Blackhole blackhole) {
+        QuadraticEquationEvaluator.compute(a, b, c, points, 0, SIZE, values, false);
+        blackhole.consume(values);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void evaluatorBatchCompensated(Blackhole blackhole) {
+        QuadraticEquationEvaluator.compute(a, b, c, points, 0, SIZE, values, true);
+        blackhole.consume(values);
+    }
+
+    private void solve(QuadraticEquationSolver solver, Blackhole blackhole) {
+        for (QuadraticEquation equation : equations) {
+            try {
+                blackhole.consume(solver.solve(equation));
+            } catch (OutOfNumericRange outOfNumericRange) {
+                blackhole.consume(outOfNumericRange);
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package net.priimak.numeric;
+
+/**
+ * Immutable numeric value of primitive type double and its associated error. Counterpart of the {@link Value} that
+ * boxes neither of them.
+ */
+public final class DoubleValue {
+    private final double value;
+    private final double error;
+
+    public DoubleValue(double value, double error) {
+        this.value = value;
+        this.error = error;
+    }
+
+    @Override
+    public boolean equals(Object otherObject) {
+        if (this == otherObject) {
+            return true;
+        } else if (otherObject == null || getClass() != otherObject.getClass()) {
+            return false;
+        }
+
+        DoubleValue other = (DoubleValue) otherObject;
+        return Double.compare(value, other.value) == 0
+            && Double.compare(error, other.error) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(value) + Double.hashCode(error);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s ± %s", value, error);
+    }
+
+    public double getValue() {
+        return value;
+    }
+
+    public double getError() {
+        return error;
+    }
+
+    /**
+     * @return same value and error boxed into {@link Value}.
+     */
+    public Value<Double> toValue() {
+        return new Value<>(value, error);
+    }
+}
@@ -0,0 +1,78 @@
+package net.priimak.numeric;
+
+/**
+ * Immutable closed interval {@code [lo, hi]} of doubles, such as a guaranteed enclosure of a root. Counterpart of the
+ * {@link DoubleValue} for computations that bound error rather than estimate it.
+ */
+public final class Interval {
+    private final double lo;
+    private final double hi;
+
+    /**
+     * @throws IllegalArgumentException if either bound is NaN or {@code lo > hi}.
+     */
+    public Interval(double lo, double hi) {
+        if (!(lo <= hi)) {
+            throw new IllegalArgumentException(String.format("[%s, %s] is not an interval", lo, hi));
+        }
+        this.lo = lo;
+        this.hi = hi;
+    }
+
+    /**
+     * @return interval of the single point x.
+     */
+    public static Interval of(double x) {
+        return new Interval(x, x);
+    }
+
+    public double getLo() {
+        return lo;
+    }
+
+    public double getHi() {
+        return hi;
+    }
+
+    /**
+     * @return {@code hi - lo} rounded to the nearest double.
+     */
+    public double getWidth() {
+        return hi - lo;
+    }
+
+    /**
+     * @return point within the interval closest to its center.
+     */
+    public double getMidpoint() {
+        double midpoint = lo / 2 + hi / 2;
+        return Math.min(Math.max(midpoint, lo), hi);
+    }
+
+    public boolean contains(double x) {
+        return lo <= x && x <= hi;
+    }
+
+    @Override
+    public boolean equals(Object otherObject) {
+        if (this == otherObject) {
+            return true;
+        } else if (otherObject == null || getClass() != otherObject.getClass()) {
+            return false;
+        }
+
+        Interval other = (Interval) otherObject;
+        return Double.compare(lo, other.lo) == 0
+            && Double.compare(hi, other.hi) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(lo) + Double.hashCode(hi);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("[%s, %s]", lo, hi);
+    }
+}
@@ -0,0 +1,144 @@
+package net.priimak.numeric;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable set of up to two roots, of quadratic equation for instance, and their errors held in primitive fields.
+ * Roots are kept in the order they were given.
+ */
+public final class RootSet {
+    public static final RootSet EMPTY = new RootSet(0, Double.NaN, Double.NaN, Double.NaN, Double.NaN);
+
+    private final int size;
+    private final double root1;
+    private final double error1;
+    private final double root2;
+    private final double error2;
+
+    private RootSet(int size, double root1, double error1, double root2, double error2) {
+        this.size = size;
+        this.root1 = root1;
+        this.error1 = error1;
+        this.root2 = root2;
+        this.error2 = error2;
+    }
+
+    public static RootSet of() {
+        return EMPTY;
+    }
+
+    public static RootSet of(double root, double error) {
+        return new RootSet(1, root, error, Double.NaN, Double.NaN);
+    }
+
+    public static RootSet of(double root1, double error1, double root2, double error2) {
+        return new RootSet(2, root1, error1, root2, error2);
+    }
+
+    /**
+     * @return number of roots, 0, 1 or 2.
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @throws IndexOutOfBoundsException if there is no root with such index.
+     */
+    public double getRoot(int index) {
+        return checkIndex(index) == 0 ? root1 : root2;
+    }
+
+    /**
+     * @throws IndexOutOfBoundsException if there is no root with such index.
+     */
+    public double getError(int index) {
+        return checkIndex(index) == 0 ? error1 : error2;
+    }
+
+    /**
+     * @throws IndexOutOfBoundsException if there is no root with such index.
+     */
+    public DoubleValue get(int index) {
+        return new DoubleValue(getRoot(index), getError(index));
+    }
+
+    /**
+     * @return new array of the roots.
+     */
+    public double[] getRoots() {
+        switch (size) {
+            case 0:
+                return new double[0];
+            case 1:
+                return new double[] {root1};
+            default:
+                return new double[] {root1, root2};
+        }
+    }
+
+    /**
+     * @return new list of the roots boxed into {@link Value}.
+     */
+    public List<Value<Double>> toValues() {
+        List<Value<Double>> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(new Value<>(getRoot(i), getError(i)));
+        }
+        return values;
+    }
+
+    @Override
+    public boolean equals(Object otherObject) {
+        if (this == otherObject) {
+            return true;
+        } else if (otherObject == null || getClass() != otherObject.getClass()) {
+            return false;
+        }
+
+        RootSet other = (RootSet) otherObject;
+        if (size != other.size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (Double.compare(getRoot(i), other.getRoot(i)) != 0
+                || Double.compare(getError(i), other.getError(i)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = size;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * (31 * hash + Double.hashCode(getRoot(i))) + Double.hashCode(getError(i));
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        switch (size) {
+            case 0:
+                return "[]";
+            case 1:
+                return String.format("[%s ± %s]", root1, error1);
+            default:
+                return String.format("[%s ± %s, %s ± %s]", root1, error1, root2, error2);
+        }
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("Index %s is out of range [0, %s)", index, size));
+        }
+        return index;
+    }
+}
@@ -0,0 +1,291 @@
+package net.priimak.qe;
+
+import net.priimak.numeric.RootSet;
+import net.priimak.qe.BatchPlanner.Bucket;
+
+/**
+ * Solver that solves equations with Citardauq formulae in double precision and certifies result with a-posteriori
+ * error bound derived from the condition number of the discriminant. Only if roots cannot be certified to the
+ * requested relative error solver escalates to {@link DoubleDoubleRefinement} and if that fails too to the solver of
+ * the last resort, which computes in arbitrary precision and is provided by the {@code qe-precise} module unless
+ * another one is given explicitly. See
+ * {@link QuadraticEquationSolver.Type#ADAPTIVE} for more details.
+ */
+final class AdaptiveQuadraticEquationSolver implements QuadraticEquationSolver {
+    /**
+     * Default maximum relative error of the roots, which is reached in double precision by all well-conditioned
+     * equations.
+     */
+    static final double DEFAULT_MAX_RELATIVE_ERROR = 1.0E-14;
+
+    static final AdaptiveQuadraticEquationSolver DEFAULT = new AdaptiveQuadraticEquationSolver(DEFAULT_MAX_RELATIVE_ERROR);
+
+    /**
+     * Unit roundoff of double precision arithmetic, 2^-53.
+     */
+    private static final double EPSILON = Math.ulp(1.0D) / 2;
+
+    /**
+     * Number of roundings, besides the ones in discriminant, on the way from parameters to roots: square root, sum,
+     * and two divisions, doubled to cover second order terms.
+     */
+    private static final double ROUNDINGS = 8;
+
+    /**
+     * Value returned by {@link #solveInDouble(double, double, double, double[])} if roots cannot be certified.
+     */
+    private static final int NOT_CERTIFIED = -1;
+
+    private final double maxRelativeError;
+    private final QuadraticEquationSolver lastResort;
+
+    AdaptiveQuadraticEquationSolver(double maxRelativeError) {
+        this(maxRelativeError, null);
+    }
+
+    /**
+     * @param lastResort solver of the last resort or null if it should be the one of the
+     *        {@link PreciseSolverProvider}.
+     */
+    AdaptiveQuadraticEquationSolver(double maxRelativeError, QuadraticEquationSolver lastResort) {
+        if (!(maxRelativeError > 0 && maxRelativeError < 1)) {
+            throw new IllegalArgumentException("Maximum relative error must be in range (0, 1)");
+        }
+        this.maxRelativeError = maxRelativeError;
+        this.lastResort = lastResort;
+    }
+
+    @Override
+    public double[] solve(QuadraticEquation equation) throws OutOfNumericRange {
+        double[] result = QuadraticEquationSolverFactory.handleCornerCases(equation);
+        if (result != null) {
+            return result;
+        }
+        double[] roots = new double[2];
+        int count = solveInDouble(equation.getA(), equation.getB(), equation.getC(), roots);
+        if (count == NOT_CERTIFIED) {
+            return escalate(equation);
+        } else if (count == 0) {
+            return QuadraticEquationSolverFactory.NO_SOLUTIONS;
+        } else {
+            QuadraticEquationSolverFactory.ensureFiniteNumber(roots[0]);
+            QuadraticEquationSolverFactory.ensureFiniteNumber(roots[1]);
+            return roots;
+        }
+    }
+
+    /**
+     * Unless metrics are enabled, equations are planned by {@link BatchPlanner}, so that well scaled equations are
+     * solved without simplification and certification, and equations near double root escalate without being solved
+     * in double precision first.
+     */
+    @Override
+    public void solve(double[] a, double[] b, double[] c, int offset, int length,
+                      double[] root1, double[] root2, int[] rootCount, byte[] status) {
+        QuadraticEquationSolverFactory.checkBatchRange(offset, length, a, b, c, root1, root2, rootCount, status);
+        BatchPlanner planner = BatchPlanner.forCurrentThread();
+        double[] roots = planner.roots();
+        if (SolverMetrics.ENABLED || length < BatchPlanner.MIN_PLANNED_LENGTH) {
+            for (int i = offset; i < offset + length; i++) {
+                solve(a, b, c, i, roots, root1, root2, rootCount, status);
+            }
+            return;
+        }
+        planner.plan(a, b, c, offset, length, maxRelativeError);
+        int[] indices = planner.indices();
+        for (int k = planner.start(Bucket.DEGENERATE); k < planner.end(Bucket.DEGENERATE); k++) {
+            int i = indices[k];
+            QuadraticEquationSolverFactory.handleCornerCases(a[i], b[i], c[i], i, root1, root2, rootCount, status);
+        }
+        for (int k = planner.start(Bucket.ZERO_CONSTANT); k < planner.end(Bucket.ZERO_CONSTANT); k++) {
+            int i = indices[k];
+            QuadraticEquationSolverFactory.storeRoots(i, 2, 0, - b[i] / a[i], root1, root2, rootCount, status);
+        }
+        for (int k = planner.start(Bucket.WELL_SCALED); k < planner.end(Bucket.WELL_SCALED); k++) {
+            int i = indices[k];
+            solveWellScaled(a[i], b[i], c[i], i, root1, root2, rootCount, status);
+        }
+        for (int k = planner.start(Bucket.NEAR_DOUBLE_ROOT); k < planner.end(Bucket.NEAR_DOUBLE_ROOT); k++) {
+            int i = indices[k];
+            escalate(a, b, c, i, root1, root2, rootCount, status);
+        }
+        for (int k = planner.start(Bucket.WIDE_EXPONENT); k < planner.end(Bucket.WIDE_EXPONENT); k++) {
+            solve(a, b, c, indices[k], roots, root1, root2, rootCount, status);
+        }
+    }
+
+    /**
+     * Solve equation of the batch at the given index storing its solution at the same index.
+     *
+     * @param roots buffer of size 2 for the roots.
+     */
+    private void solve(double[] a, double[] b, double[] c, int index, double[] roots,
+                       double[] root1, double[] root2, int[] rootCount, byte[] status) {
+        if (QuadraticEquationSolverFactory.handleCornerCases(
+            a[index], b[index], c[index], index, root1, root2, rootCount, status)
+        ) {
+            return;
+        }
+        int count = solveInDouble(a[index], b[index], c[index], roots);
+        if (count != NOT_CERTIFIED) {
+            QuadraticEquationSolverFactory.storeRoots(
+                index, count,
+                count > 0 ? roots[0] : Double.NaN,
+                count > 1 ? roots[1] : Double.NaN,
+                root1, root2, rootCount, status
+            );
+        } else {
+            escalate(a, b, c, index, root1, root2, rootCount, status);
+        }
+    }
+
+    /**
+     * Same as {@link #solveInDouble(double, double, double, double[])} for the {@link Bucket#WELL_SCALED}
+     * equation, which needs neither simplification nor certification, storing its solution at the given index.
+     */
+    private static void solveWellScaled(double a, double b, double c, int index,
+                                        double[] root1, double[] root2, int[] rootCount, byte[] status) {
+        double discriminant = b * b - 4 * a * c;
+        if (discriminant < 0) {
+            QuadraticEquationSolverFactory.storeRoots(index, 0, Double.NaN, Double.NaN, root1, root2, rootCount, status);
+            return;
+        }
+        double discriminantPart = b > 0 ? -b - Math.sqrt(discriminant) : -b + Math.sqrt(discriminant);
+        double nearRoot = 2 * c / discriminantPart;
+        double farRoot = discriminantPart / 2 / a;
+        QuadraticEquationSolverFactory.storeRoots(
+            index, 2, b > 0 ? nearRoot : farRoot, b > 0 ? farRoot : nearRoot, root1, root2, rootCount, status
+        );
+    }
+
+    /**
+     * Same as {@link #escalate(QuadraticEquation)} for the equation of the batch at the given index, but overflow is
+     * stored as status, which is also the way batch solver of the last resort reports it, rather than thrown.
+     */
+    private void escalate(double[] a, double[] b, double[] c, int index,
+                          double[] root1, double[] root2, int[] rootCount, byte[] status) {
+        SolverMetrics.increment(SolverMetrics.Counter.ADAPTIVE_ESCALATION);
+        RootSet rootSet = DoubleDoubleRefinement.refine(
+            new QuadraticEquation(a[index], b[index], c[index]), maxRelativeError
+        );
+        if (rootSet == null) {
+            getLastResort().solve(a, b, c, index, 1, root1, root2, rootCount, status);
+            return;
+        } else if (rootSet == DoubleDoubleRefinement.OVERFLOW) {
+            // counted by refinement
+            QuadraticEquationSolverFactory.storeOverflowStatus(index, root1, root2, rootCount, status);
+            return;
+        }
+        double[] roots = rootSet.getRoots();
+        QuadraticEquationSolverFactory.storeRoots(
+            index, roots.length,
+            roots.length > 0 ? roots[0] : Double.NaN,
+            roots.length > 1 ? roots[1] : Double.NaN,
+            root1, root2, rootCount, status
+        );
+    }
+
+    private QuadraticEquationSolver getLastResort() {
+        if (lastResort != null) {
+            return lastResort;
+        }
+        PreciseSolverProvider provider = QuadraticEquationSolverFactory.getPreciseSolverProvider();
+        if (provider == null) {
+            throw new UnsupportedOperationException(
+                "Solver of the last resort requires qe-precise module on the class path"
+            );
+        }
+        return provider.getCitardauqSolver();
+    }
+
+    double getMaxRelativeError() {
+        return maxRelativeError;
+    }
+
+    /**
+     * Solve equation with Citardauq formulae in double precision. Computed discriminant D differs from exact one by no
+     * more than eps * (b^2 + 4|ac| + |D|), so number of roots is certain if that is less than |D| and relative error
+     * of the roots is bounded by eps * ((b^2 + 4|ac|) / |D| + {@link #ROUNDINGS}). Products that underflowed lose
+     * their relative accuracy and are never certified. Roots that are certified to overflow are stored as infinities,
+     * so that overflow is reported without escalation.
+     *
+     * @param roots buffer of size 2 for the roots.
+     * @return number of roots stored into the buffer or {@link #NOT_CERTIFIED}.
+     */
+    private int solveInDouble(double a, double b, double c, double[] roots) {
+        double div = QuadraticEquation.simplificationDivisor(a, b, c);
+        a /= div;
+        b /= div;
+        c /= div;
+        if (!isAccurateProduct(a) || !isAccurateProduct(b) || !isAccurateProduct(c)) {
+            // simplification underflowed
+            return NOT_CERTIFIED;
+        }
+        double bb = b * b;
+        double ac4 = 4 * a * c;
+        if (!isAccurateProduct(bb) || !isAccurateProduct(ac4)) {
+            return NOT_CERTIFIED;
+        }
+        double discriminant = bb - ac4;
+        if (!isCertified(bb + Math.abs(ac4), discriminant, maxRelativeError)) {
+            return NOT_CERTIFIED;
+        } else if (discriminant < 0) {
+            return 0;
+        }
+        double discriminantPart = b > 0 ? -b - Math.sqrt(discriminant) : -b + Math.sqrt(discriminant);
+        double nearRoot = 2 * c / discriminantPart;
+        // |farRoot| >= |nearRoot|, hence only far root can overflow
+        double farRoot = discriminantPart / 2 / a;
+        if (!isAccurateRoot(nearRoot) || !(isAccurateRoot(farRoot) || Double.isInfinite(farRoot))) {
+            return NOT_CERTIFIED;
+        }
+        roots[0] = b > 0 ? nearRoot : farRoot;
+        roots[1] = b > 0 ? farRoot : nearRoot;
+        return 2;
+    }
+
+    /**
+     * @return true if discriminant computed in double precision certainly has sign of the exact one and, if it is
+     *         positive, roots computed from it certainly have relative error within the maximum one, see
+     *         {@link #solveInDouble(double, double, double, double[])}.
+     * @param magnitude computed b^2 + 4|ac|.
+     * @param discriminant computed b^2 - 4ac.
+     */
+    static boolean isCertified(double magnitude, double discriminant, double maxRelativeError) {
+        return Double.isFinite(magnitude)
+            && EPSILON * (magnitude + Math.abs(discriminant)) < Math.abs(discriminant)
+            && (discriminant < 0 || EPSILON * (magnitude / discriminant + ROUNDINGS) <= maxRelativeError);
+    }
+
+    /**
+     * Solve equation with double-double refinement and, if that did not reach requested error, with the solver of the
+     * last resort. Unless one was given explicitly, that is the solver of the {@code qe-precise} module.
+     *
+     * @throws UnsupportedOperationException if refinement did not reach requested error, no solver of the last resort
+     *         was given and {@code qe-precise} module is not on the class path.
+     */
+    private double[] escalate(QuadraticEquation equation) throws OutOfNumericRange {
+        SolverMetrics.increment(SolverMetrics.Counter.ADAPTIVE_ESCALATION);
+        RootSet rootSet = DoubleDoubleRefinement.solve(equation, maxRelativeError);
+        if (rootSet == null) {
+            return getLastResort().solve(equation);
+        }
+        double[] roots = rootSet.getRoots();
+        for (double root : roots) {
+            QuadraticEquationSolverFactory.ensureFiniteNumber(root);
+        }
+        return roots;
+    }
+
+    /**
+     * @return true if product, or quotient, is 0 or normal number, i.e. it was rounded with relative error of at most
+     *         eps.
+     */
+    private static boolean isAccurateProduct(double product) {
+        return product == 0 || Math.abs(product) >= Double.MIN_NORMAL;
+    }
+
+    private static boolean isAccurateRoot(double root) {
+        return Double.isFinite(root) && Math.abs(root) >= Double.MIN_NORMAL;
+    }
+}
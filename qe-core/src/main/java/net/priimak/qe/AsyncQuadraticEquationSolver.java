@@ -0,0 +1,246 @@
+package net.priimak.qe;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous facade of a {@link QuadraticEquationSolver} that coalesces concurrent requests into micro-batches and
+ * solves every batch in one call of the batch API of the solver on an executor, so that neither dispatch cost is paid
+ * per equation nor slow solvers, such as {@link QuadraticEquationSolver.Type#SIMPLE_AP}, block calling threads.
+ * <p>
+ * Requests wait in a bounded queue. Single dispatcher thread takes them off the queue and flushes batch once it has
+ * {@code maxBatchSize} requests or {@code maxDelayNanos} passed since the first request of the batch was taken. When
+ * queue is full {@link #solveAsync(QuadraticEquation)} blocks, which pushes back on the callers producing requests
+ * faster than they can be solved.
+ * <p>
+ * Instances are created with {@link QuadraticEquationSolverFactory#getAsyncSolver(QuadraticEquationSolver)} and must be
+ * {@link #close() closed} once no longer needed.
+ */
+public final class AsyncQuadraticEquationSolver implements AutoCloseable {
+    /**
+     * Default maximum number of equations solved in one batch.
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 256;
+
+    /**
+     * Default time in nanoseconds batch waits for more requests before it is flushed.
+     */
+    public static final long DEFAULT_MAX_DELAY_NANOS = TimeUnit.MICROSECONDS.toNanos(20);
+
+    /**
+     * Default capacity of the queue of requests.
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 65536;
+
+    /**
+     * Request that tells dispatcher to flush what it has and stop.
+     */
+    private static final Request CLOSE = new Request(0, 0, 0);
+
+    private final QuadraticEquationSolver solver;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final BlockingQueue<Request> queue;
+    private final Executor executor;
+    private final boolean ownsExecutor;
+    private final Thread dispatcher;
+    private volatile boolean closed;
+
+    /**
+     * @param executor executor to solve batches on, or null to solve them on virtual threads if they are available
+     *        and on {@link ForkJoinPool#commonPool()} otherwise.
+     */
+    AsyncQuadraticEquationSolver(QuadraticEquationSolver solver, int maxBatchSize, long maxDelayNanos,
+                                 int queueCapacity, Executor executor) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Maximum batch size must be positive");
+        } else if (maxDelayNanos < 0) {
+            throw new IllegalArgumentException("Maximum delay must not be negative");
+        }
+        this.solver = solver;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = maxDelayNanos;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        if (executor == null) {
+            ExecutorService virtualThreads = newVirtualThreadPerTaskExecutor();
+            this.executor = virtualThreads != null ? virtualThreads : ForkJoinPool.commonPool();
+            this.ownsExecutor = virtualThreads != null;
+        } else {
+            this.executor = executor;
+            this.ownsExecutor = false;
+        }
+        this.dispatcher = new Thread(this::dispatch, "qe-async-dispatcher");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+
+    /**
+     * Solve equation asynchronously. Blocks if queue of requests is full.
+     *
+     * @return future completed with roots in the same form as returned by
+     *         {@link QuadraticEquationSolver#solve(QuadraticEquation)} or exceptionally with {@link OutOfNumericRange}
+     *         if solution overflowed, or with {@link RejectedExecutionException} if solver is closed.
+     */
+    public CompletableFuture<double[]> solveAsync(QuadraticEquation equation) {
+        Request request = new Request(equation.getA(), equation.getB(), equation.getC());
+        if (closed) {
+            reject(request);
+            return request.future;
+        }
+        try {
+            queue.put(request);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            request.future.completeExceptionally(e);
+            return request.future;
+        }
+        // closed concurrently, request that dispatcher has not taken will never be taken
+        if (closed && queue.remove(request)) {
+            reject(request);
+        }
+        return request.future;
+    }
+
+    /**
+     * Stop accepting requests and wait for dispatcher to flush requests accepted so far. Batches that were flushed
+     * are solved to completion. If calling thread is interrupted, it stops waiting and returns with its interrupt
+     * status set, while dispatcher flushes the batch it has collected and rejects requests still in the queue.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            queue.put(CLOSE);
+            dispatcher.join();
+        } catch (InterruptedException e) {
+            dispatcher.interrupt();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void dispatch() {
+        List<Request> batch = new ArrayList<>(maxBatchSize);
+        boolean closing = false;
+        while (!closing) {
+            try {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + maxDelayNanos;
+                queue.drainTo(batch, maxBatchSize - batch.size());
+                while (batch.size() < maxBatchSize && !batch.contains(CLOSE)) {
+                    Request request = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (request == null) {
+                        break;
+                    }
+                    batch.add(request);
+                    queue.drainTo(batch, maxBatchSize - batch.size());
+                }
+            } catch (InterruptedException e) {
+                closing = true;
+            }
+            closing |= batch.remove(CLOSE);
+            if (!batch.isEmpty()) {
+                submit(new ArrayList<>(batch));
+                batch.clear();
+            }
+        }
+        // requests put after close, or not taken since dispatcher was interrupted, will never be taken
+        for (Request request = queue.poll(); request != null; request = queue.poll()) {
+            if (request != CLOSE) {
+                reject(request);
+            }
+        }
+        if (ownsExecutor) {
+            ((ExecutorService) executor).shutdown();
+        }
+    }
+
+    private void submit(List<Request> batch) {
+        try {
+            executor.execute(() -> solve(batch));
+        } catch (RejectedExecutionException e) {
+            for (Request request : batch) {
+                request.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    private void solve(List<Request> batch) {
+        int size = batch.size();
+        double[] a = new double[size];
+        double[] b = new double[size];
+        double[] c = new double[size];
+        for (int i = 0; i < size; i++) {
+            Request request = batch.get(i);
+            a[i] = request.a;
+            b[i] = request.b;
+            c[i] = request.c;
+        }
+        double[] root1 = new double[size];
+        double[] root2 = new double[size];
+        int[] rootCount = new int[size];
+        byte[] status = new byte[size];
+        try {
+            solver.solve(a, b, c, 0, size, root1, root2, rootCount, status);
+        } catch (RuntimeException e) {
+            for (Request request : batch) {
+                request.future.completeExceptionally(e);
+            }
+            return;
+        }
+        for (int i = 0; i < size; i++) {
+            CompletableFuture<double[]> future = batch.get(i).future;
+            if (status[i] == SolutionStatus.OVERFLOW.code()) {
+                future.completeExceptionally(new OutOfNumericRange(
+                    "Parameters a, b and c are out of range where solution with this precession is possible."
+                ));
+            } else if (rootCount[i] == 0) {
+                future.complete(QuadraticEquationSolverFactory.NO_SOLUTIONS);
+            } else if (rootCount[i] == 1) {
+                future.complete(new double[] {root1[i]});
+            } else {
+                future.complete(new double[] {root1[i], root2[i]});
+            }
+        }
+    }
+
+    private static void reject(Request request) {
+        request.future.completeExceptionally(new RejectedExecutionException("Solver is closed"));
+    }
+
+    /**
+     * @return {@code Executors.newVirtualThreadPerTaskExecutor()} if it is available in this JVM, otherwise null.
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            Method method = java.util.concurrent.Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static final class Request {
+        final double a;
+        final double b;
+        final double c;
+        final CompletableFuture<double[]> future = new CompletableFuture<>();
+
+        Request(double a, double b, double c) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+        }
+    }
+}
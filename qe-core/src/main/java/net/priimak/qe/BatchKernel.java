@@ -0,0 +1,11 @@
+package net.priimak.qe;
+
+/**
+ * Kernel that solves range of quadratic equations held in parallel arrays. See
+ * {@link QuadraticEquationSolver#solve(double[], double[], double[], int, int, double[], double[], int[], byte[])}
+ * for the meaning of parameters. Kernels do not check bounds of the buffers, that is responsibility of the caller.
+ */
+interface BatchKernel {
+    void solve(double[] a, double[] b, double[] c, int offset, int length,
+               double[] root1, double[] root2, int[] rootCount, byte[] status);
+}
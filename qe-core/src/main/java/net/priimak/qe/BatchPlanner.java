@@ -0,0 +1,162 @@
+package net.priimak.qe;
+
+import java.util.Arrays;
+
+/**
+ * Planner of batch solving, which sorts equations of a batch into {@link Bucket}s with one mostly branch free pass
+ * over their parameters, so that solvers can run every bucket through the kernel specialized for it instead of
+ * branching on corner cases, exponent spread and discriminant for every equation. Order of equations within each bucket
+ * is the order of the batch and solvers write roots at the original indices of equations, hence no results need to be
+ * scattered back.
+ * <p>
+ * Planner is a mutable holder of the last plan. It is not thread safe, solvers use {@link #forCurrentThread() planner
+ * of the current thread}, so that batches are planned without allocation once buffers of the planner have grown to
+ * the size of the batch. Batches shorter than {@link #MIN_PLANNED_LENGTH} are not worth planning.
+ */
+final class BatchPlanner {
+    /**
+     * Buckets of equations in order in which they are stored in the plan.
+     */
+    enum Bucket {
+        /**
+         * Parameter a or b is 0, so that equation is linear or has no linear term.
+         */
+        DEGENERATE,
+
+        /**
+         * Parameter c is 0, a and b are not, so that roots are 0 and -b/a.
+         */
+        ZERO_CONSTANT,
+
+        /**
+         * Exponents of all parameters are within [-{@link #MAX_WELL_SCALED_EXPONENT},
+         * {@link #MAX_WELL_SCALED_EXPONENT}], so that neither products of parameters nor roots overflow or underflow
+         * and equation can be solved without simplification.
+         */
+        WELL_SCALED,
+
+        /**
+         * Well scaled equation which discriminant is so small relative to its terms that roots cannot be certified to
+         * the requested relative error in double precision, such as equation with a double root.
+         */
+        NEAR_DOUBLE_ROOT,
+
+        /**
+         * Any other equation, which has to be simplified before it is solved.
+         */
+        WIDE_EXPONENT
+    }
+
+    /**
+     * Largest absolute value of the exponent of a parameter of the {@link Bucket#WELL_SCALED} equation. Then
+     * {@code |b^2|} and {@code |4ac|} are in [2^-960, 2^964] and both roots are normal numbers.
+     */
+    static final int MAX_WELL_SCALED_EXPONENT = 480;
+
+    /**
+     * Shortest batch that solvers plan, shorter ones are solved equation by equation. Nested batch solves, such as
+     * ones of the solver of the last resort or of the solver decorated by cache, are of single equations, hence
+     * never replan while planner of the current thread is in use.
+     */
+    static final int MIN_PLANNED_LENGTH = 16;
+
+    private static final Bucket[] BUCKETS = Bucket.values();
+
+    private static final ThreadLocal<BatchPlanner> PLANNERS = ThreadLocal.withInitial(BatchPlanner::new);
+
+    private final int[] starts = new int[BUCKETS.length + 1];
+    private final int[] counts = new int[BUCKETS.length];
+    private final double[] roots = new double[2];
+    private byte[] buckets = new byte[0];
+    private int[] indices = new int[0];
+
+    /**
+     * @return planner of the current thread.
+     */
+    static BatchPlanner forCurrentThread() {
+        return PLANNERS.get();
+    }
+
+    /**
+     * Sort equations a[i]x^2 + b[i]x + c[i] = 0 for every i in range [offset, offset + length) into buckets.
+     *
+     * @param maxRelativeError relative error of the roots below which well scaled equations are not certified, see
+     *        {@link AdaptiveQuadraticEquationSolver#isCertified(double, double, double)}. Equations with uncertain
+     *        number of roots are always put into {@link Bucket#NEAR_DOUBLE_ROOT}.
+     */
+    void plan(double[] a, double[] b, double[] c, int offset, int length, double maxRelativeError) {
+        if (buckets.length < length) {
+            buckets = new byte[length];
+            indices = new int[length];
+        }
+        Arrays.fill(counts, 0);
+        for (int i = 0; i < length; i++) {
+            int bucket = classify(a[offset + i], b[offset + i], c[offset + i], maxRelativeError);
+            buckets[i] = (byte) bucket;
+            counts[bucket]++;
+        }
+        starts[0] = 0;
+        for (int bucket = 0; bucket < BUCKETS.length; bucket++) {
+            starts[bucket + 1] = starts[bucket] + counts[bucket];
+            counts[bucket] = starts[bucket];
+        }
+        for (int i = 0; i < length; i++) {
+            indices[counts[buckets[i]]++] = offset + i;
+        }
+    }
+
+    /**
+     * @return position in {@link #indices()} of the first equation of the bucket.
+     */
+    int start(Bucket bucket) {
+        return starts[bucket.ordinal()];
+    }
+
+    /**
+     * @return position in {@link #indices()} after the last equation of the bucket.
+     */
+    int end(Bucket bucket) {
+        return starts[bucket.ordinal() + 1];
+    }
+
+    /**
+     * @return indices of the planned equations in the batch buffers grouped by bucket.
+     */
+    int[] indices() {
+        return indices;
+    }
+
+    /**
+     * @return scratch buffer of size 2 for the roots of one equation, which solvers carrying out the plan share with
+     *         the planner rather than allocate per batch.
+     */
+    double[] roots() {
+        return roots;
+    }
+
+    /**
+     * @return ordinal of the bucket of the equation.
+     */
+    static int classify(double a, double b, double c, double maxRelativeError) {
+        int ea = Math.getExponent(a);
+        int eb = Math.getExponent(b);
+        int ec = Math.getExponent(c);
+        // exponents of 0, subnormal and non finite numbers are out of range, hence only nonzero finite parameters pass
+        boolean wellScaled = ((ea + MAX_WELL_SCALED_EXPONENT) | (MAX_WELL_SCALED_EXPONENT - ea)
+            | (eb + MAX_WELL_SCALED_EXPONENT) | (MAX_WELL_SCALED_EXPONENT - eb)
+            | (ec + MAX_WELL_SCALED_EXPONENT) | (MAX_WELL_SCALED_EXPONENT - ec)) >= 0;
+        if (wellScaled) {
+            double bb = b * b;
+            double ac4 = 4 * a * c;
+            return AdaptiveQuadraticEquationSolver.isCertified(bb + Math.abs(ac4), bb - ac4, maxRelativeError)
+                ? Bucket.WELL_SCALED.ordinal()
+                : Bucket.NEAR_DOUBLE_ROOT.ordinal();
+        } else if (a == 0 || b == 0) {
+            return Bucket.DEGENERATE.ordinal();
+        } else if (c == 0) {
+            return Bucket.ZERO_CONSTANT.ordinal();
+        } else {
+            return Bucket.WIDE_EXPONENT.ordinal();
+        }
+    }
+}
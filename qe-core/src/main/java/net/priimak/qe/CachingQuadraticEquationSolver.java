@@ -0,0 +1,72 @@
+package net.priimak.qe;
+
+/**
+ * Decorator of {@link QuadraticEquationSolver} that memoizes its solutions in {@link SolutionCache}. Cached arrays of
+ * roots are never handed out, every call returns a copy.
+ */
+final class CachingQuadraticEquationSolver implements QuadraticEquationSolver {
+    /**
+     * Marker of the overflow in batch solution, compared by identity.
+     */
+    private static final double[] OVERFLOW = new double[0];
+
+    private final QuadraticEquationSolver solver;
+    private final SolutionCache<double[]> cache;
+
+    CachingQuadraticEquationSolver(QuadraticEquationSolver solver, SolutionCache<double[]> cache) {
+        this.solver = solver;
+        this.cache = cache;
+    }
+
+    @Override
+    public double[] solve(QuadraticEquation equation) throws OutOfNumericRange {
+        return cache.get(equation.getA(), equation.getB(), equation.getC(), () -> solver.solve(equation)).clone();
+    }
+
+    /**
+     * Equations missing in the cache are solved one by one with the batch solver of the decorated solver, so that
+     * overflows, cached or not, are stored as status and no {@link OutOfNumericRange} is thrown.
+     */
+    @Override
+    public void solve(double[] a, double[] b, double[] c, int offset, int length,
+                      double[] root1, double[] root2, int[] rootCount, byte[] status) {
+        QuadraticEquationSolverFactory.checkBatchRange(offset, length, a, b, c, root1, root2, rootCount, status);
+        for (int i = offset; i < offset + length; i++) {
+            int index = i;
+            double[] roots = cache.getOrOverflow(
+                a[i], b[i], c[i], () -> solve(a, b, c, index, root1, root2, rootCount, status), OVERFLOW
+            );
+            if (roots == OVERFLOW) {
+                // counted where overflow occurred
+                QuadraticEquationSolverFactory.storeOverflowStatus(i, root1, root2, rootCount, status);
+            } else {
+                QuadraticEquationSolverFactory.storeRoots(
+                    i, roots.length,
+                    roots.length > 0 ? roots[0] : Double.NaN,
+                    roots.length > 1 ? roots[1] : Double.NaN,
+                    root1, root2, rootCount, status
+                );
+            }
+        }
+    }
+
+    /**
+     * Solve equation of the batch at the given index with the batch solver.
+     *
+     * @return roots to cache, which are {@link #OVERFLOW} if solver stored overflow status.
+     */
+    private double[] solve(double[] a, double[] b, double[] c, int index,
+                           double[] root1, double[] root2, int[] rootCount, byte[] status) {
+        solver.solve(a, b, c, index, 1, root1, root2, rootCount, status);
+        switch (rootCount[index]) {
+            case 0:
+                return status[index] == SolutionStatus.OVERFLOW.code()
+                    ? OVERFLOW
+                    : QuadraticEquationSolverFactory.NO_SOLUTIONS;
+            case 1:
+                return new double[] {root1[index]};
+            default:
+                return new double[] {root1[index], root2[index]};
+        }
+    }
+}
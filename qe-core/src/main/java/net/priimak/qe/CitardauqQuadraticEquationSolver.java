@@ -0,0 +1,164 @@
+package net.priimak.qe;
+
+import net.priimak.qe.BatchPlanner.Bucket;
+
+enum CitardauqQuadraticEquationSolver implements QuadraticEquationSolver {
+    /**
+     * Instance of {@link CitardauqQuadraticEquationSolver} that solves quadratic equation using Citardauq formulae.
+     * Before computing root, equation is simplified by passing it through
+     * {@link QuadraticEquation#simplify(QuadraticEquation)}. See {@link QuadraticEquationSolver.Type#CITARDAUQ} for
+     * more details.
+     */
+    INSTANCE;
+
+    @Override
+    public double[] solve(QuadraticEquation equation) throws OutOfNumericRange {
+        double[] result = QuadraticEquationSolverFactory.handleCornerCases(equation);
+        if (result != null) {
+            return result;
+        } else {
+            // same as QuadraticEquation.simplify(equation) but without creating new equation
+            double div = QuadraticEquation.simplificationDivisor(equation.getA(), equation.getB(), equation.getC());
+            double a = equation.getA() / div;
+            double b = equation.getB() / div;
+            double c = equation.getC() / div;
+            // ax^2 + bx + c = 0
+            double discriminant = QuadraticEquationSolverFactory.ensureFiniteNumber(b * b - 4 * a * c);
+            SolverMetrics.countDiscriminant(discriminant);
+            if (discriminant < 0) {
+                return QuadraticEquationSolverFactory.NO_SOLUTIONS;
+            } else if (discriminant == 0) {
+                return new double[] {QuadraticEquationSolverFactory.ensureFiniteNumber(- (b / a) / 2)};
+            }
+            if (b > 0) {
+                double discriminantPart = -b - Math.sqrt(discriminant);
+                return new double[] {
+                    QuadraticEquationSolverFactory.ensureFiniteNumber(2 * c / discriminantPart),
+                    QuadraticEquationSolverFactory.ensureFiniteNumber(discriminantPart / a / 2)
+                };
+            } else { // b < 0
+                double discriminantPart = -b + Math.sqrt(discriminant);
+                return new double[] {
+                    QuadraticEquationSolverFactory.ensureFiniteNumber(discriminantPart / a / 2),
+                    QuadraticEquationSolverFactory.ensureFiniteNumber(2 * c / discriminantPart)
+                };
+            }
+        }
+    }
+
+    /**
+     * Unless metrics are enabled, equations are solved by the vector kernel if it is available, or else planned by
+     * {@link BatchPlanner}, so that corner cases and well scaled equations, which need no simplification, are solved
+     * by kernels of their own.
+     */
+    @Override
+    public void solve(double[] a, double[] b, double[] c, int offset, int length,
+                      double[] root1, double[] root2, int[] rootCount, byte[] status) {
+        QuadraticEquationSolverFactory.checkBatchRange(offset, length, a, b, c, root1, root2, rootCount, status);
+        if (SolverMetrics.ENABLED) {
+            for (int i = offset; i < offset + length; i++) {
+                solve(a[i], b[i], c[i], i, root1, root2, rootCount, status);
+            }
+        } else if (VectorKernels.CITARDAUQ != null) {
+            VectorKernels.CITARDAUQ.solve(a, b, c, offset, length, root1, root2, rootCount, status);
+        } else {
+            solvePlanned(a, b, c, offset, length, root1, root2, rootCount, status);
+        }
+    }
+
+    /**
+     * Scalar kernel of the batch solver used when vector kernel is not available. Solutions are identical to the ones
+     * of {@link #solve(double, double, double, int, double[], double[], int[], byte[])}.
+     */
+    static void solvePlanned(double[] a, double[] b, double[] c, int offset, int length,
+                             double[] root1, double[] root2, int[] rootCount, byte[] status) {
+        if (length < BatchPlanner.MIN_PLANNED_LENGTH) {
+            for (int i = offset; i < offset + length; i++) {
+                solve(a[i], b[i], c[i], i, root1, root2, rootCount, status);
+            }
+            return;
+        }
+        BatchPlanner planner = BatchPlanner.forCurrentThread();
+        // certification does not matter, near double roots are solved the same way as other well scaled equations
+        planner.plan(a, b, c, offset, length, 1);
+        int[] indices = planner.indices();
+        for (int k = planner.start(Bucket.DEGENERATE); k < planner.end(Bucket.DEGENERATE); k++) {
+            int i = indices[k];
+            QuadraticEquationSolverFactory.handleCornerCases(a[i], b[i], c[i], i, root1, root2, rootCount, status);
+        }
+        for (int k = planner.start(Bucket.ZERO_CONSTANT); k < planner.end(Bucket.ZERO_CONSTANT); k++) {
+            int i = indices[k];
+            QuadraticEquationSolverFactory.storeRoots(i, 2, 0, - b[i] / a[i], root1, root2, rootCount, status);
+        }
+        for (int k = planner.start(Bucket.WELL_SCALED); k < planner.end(Bucket.NEAR_DOUBLE_ROOT); k++) {
+            int i = indices[k];
+            solveWellScaled(a[i], b[i], c[i], i, root1, root2, rootCount, status);
+        }
+        for (int k = planner.start(Bucket.WIDE_EXPONENT); k < planner.end(Bucket.WIDE_EXPONENT); k++) {
+            int i = indices[k];
+            solve(a[i], b[i], c[i], i, root1, root2, rootCount, status);
+        }
+    }
+
+    /**
+     * Same as {@link #solve(double, double, double, int, double[], double[], int[], byte[])} for the
+     * {@link Bucket#WELL_SCALED} and {@link Bucket#NEAR_DOUBLE_ROOT} equations, which discriminant is finite and which
+     * need no simplification, since it would only scale them by a power of two.
+     */
+    private static void solveWellScaled(double a, double b, double c, int index,
+                                        double[] root1, double[] root2, int[] rootCount, byte[] status) {
+        double discriminant = b * b - 4 * a * c;
+        if (discriminant < 0) {
+            QuadraticEquationSolverFactory.storeRoots(index, 0, Double.NaN, Double.NaN, root1, root2, rootCount, status);
+        } else if (discriminant == 0) {
+            QuadraticEquationSolverFactory.storeRoots(index, 1, - (b / a) / 2, Double.NaN, root1, root2, rootCount, status);
+        } else {
+            double discriminantPart = b > 0 ? -b - Math.sqrt(discriminant) : -b + Math.sqrt(discriminant);
+            double nearRoot = 2 * c / discriminantPart;
+            double farRoot = discriminantPart / a / 2;
+            QuadraticEquationSolverFactory.storeRoots(
+                index, 2, b > 0 ? nearRoot : farRoot, b > 0 ? farRoot : nearRoot, root1, root2, rootCount, status
+            );
+        }
+    }
+
+    @Override
+    public void solve(double a, double b, double c, RootResult result) {
+        solve(a, b, c, 0, result.root1, result.root2, result.rootCount, result.status);
+    }
+
+    /**
+     * Allocation free counterpart of {@link #solve(QuadraticEquation)} that stores solution into batch buffers at the
+     * given index.
+     */
+    static void solve(double a, double b, double c, int index,
+                      double[] root1, double[] root2, int[] rootCount, byte[] status) {
+        if (QuadraticEquationSolverFactory.handleCornerCases(a, b, c, index, root1, root2, rootCount, status)) {
+            return;
+        }
+        double div = QuadraticEquation.simplificationDivisor(a, b, c);
+        a /= div;
+        b /= div;
+        c /= div;
+        // ax^2 + bx + c = 0
+        double discriminant = b * b - 4 * a * c;
+        SolverMetrics.countDiscriminant(discriminant);
+        if (!Double.isFinite(discriminant)) {
+            QuadraticEquationSolverFactory.storeOverflow(index, root1, root2, rootCount, status);
+        } else if (discriminant < 0) {
+            QuadraticEquationSolverFactory.storeRoots(index, 0, Double.NaN, Double.NaN, root1, root2, rootCount, status);
+        } else if (discriminant == 0) {
+            QuadraticEquationSolverFactory.storeRoots(index, 1, - (b / a) / 2, Double.NaN, root1, root2, rootCount, status);
+        } else if (b > 0) {
+            double discriminantPart = -b - Math.sqrt(discriminant);
+            QuadraticEquationSolverFactory.storeRoots(
+                index, 2, 2 * c / discriminantPart, discriminantPart / a / 2, root1, root2, rootCount, status
+            );
+        } else { // b < 0
+            double discriminantPart = -b + Math.sqrt(discriminant);
+            QuadraticEquationSolverFactory.storeRoots(
+                index, 2, discriminantPart / a / 2, 2 * c / discriminantPart, root1, root2, rootCount, status
+            );
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package net.priimak.qe;
+
+/**
+ * Immutable unevaluated sum of two doubles {@code hi + lo}, where {@code |lo| <= ulp(hi) / 2}, giving about 106 bits
+ * of precision. Algorithms follow QD library of Hida, Li and Bailey and rely on the {@link ExactArithmetic}. Results
+ * are accurate only as long as exponents of the operands stay in the range where
+ * {@link ExactArithmetic#isProductExact(double, double, double)} holds, see {@link #isSafe(double)}.
+ */
+final class DoubleDouble {
+    static final DoubleDouble ZERO = new DoubleDouble(0, 0);
+
+    /**
+     * Largest magnitude of exponent of the numbers for which products and squares of products stay in the range
+     * where error free transformations are exact.
+     */
+    private static final int SAFE_EXPONENT = 240;
+
+    private final double hi;
+    private final double lo;
+
+    private DoubleDouble(double hi, double lo) {
+        this.hi = hi;
+        this.lo = lo;
+    }
+
+    static DoubleDouble valueOf(double x) {
+        return new DoubleDouble(x, 0);
+    }
+
+    /**
+     * @return exact product of two doubles.
+     */
+    static DoubleDouble product(double a, double b) {
+        double p = a * b;
+        return new DoubleDouble(p, ExactArithmetic.twoProductError(a, b, p));
+    }
+
+    /**
+     * @return true if x is 0 or its exponent is small enough in magnitude for the double-double arithmetic on the
+     *         coefficients and roots of quadratic equations to be accurate.
+     */
+    static boolean isSafe(double x) {
+        return x == 0 || (Double.isFinite(x) && Math.abs(Math.getExponent(x)) <= SAFE_EXPONENT);
+    }
+
+    double hi() {
+        return hi;
+    }
+
+    double lo() {
+        return lo;
+    }
+
+    /**
+     * @return value of this double-double rounded to double.
+     */
+    double doubleValue() {
+        return hi + lo;
+    }
+
+    int signum() {
+        return hi != 0 ? (int) Math.signum(hi) : (int) Math.signum(lo);
+    }
+
+    boolean isFinite() {
+        return Double.isFinite(hi) && Double.isFinite(lo);
+    }
+
+    /**
+     * @return this double-double multiplied by 2^n.
+     */
+    DoubleDouble scalb(int n) {
+        return new DoubleDouble(Math.scalb(hi, n), Math.scalb(lo, n));
+    }
+
+    DoubleDouble negate() {
+        return new DoubleDouble(-hi, -lo);
+    }
+
+    DoubleDouble add(double b) {
+        double s = hi + b;
+        double e = ExactArithmetic.twoSumError(hi, b, s) + lo;
+        return normalize(s, e);
+    }
+
+    DoubleDouble add(DoubleDouble b) {
+        double s = hi + b.hi;
+        double e = ExactArithmetic.twoSumError(hi, b.hi, s);
+        double t = lo + b.lo;
+        double f = ExactArithmetic.twoSumError(lo, b.lo, t);
+        e += t;
+        double s1 = s + e;
+        e = e - (s1 - s);
+        return normalize(s1, e + f);
+    }
+
+    DoubleDouble subtract(DoubleDouble b) {
+        return add(b.negate());
+    }
+
+    DoubleDouble multiply(double b) {
+        double p = hi * b;
+        double e = ExactArithmetic.twoProductError(hi, b, p) + lo * b;
+        return normalize(p, e);
+    }
+
+    DoubleDouble multiply(DoubleDouble b) {
+        double p = hi * b.hi;
+        double e = ExactArithmetic.twoProductError(hi, b.hi, p) + (hi * b.lo + lo * b.hi);
+        return normalize(p, e);
+    }
+
+    DoubleDouble divide(DoubleDouble b) {
+        double q1 = hi / b.hi;
+        DoubleDouble r = subtract(b.multiply(q1));
+        double q2 = r.hi / b.hi;
+        r = r.subtract(b.multiply(q2));
+        double q3 = r.hi / b.hi;
+        return normalize(q1, q2).add(q3);
+    }
+
+    /**
+     * @return square root of this non negative double-double.
+     */
+    DoubleDouble sqrt() {
+        if (hi == 0) {
+            return ZERO;
+        }
+        // one Newton step from the double precision root
+        double x = Math.sqrt(hi);
+        DoubleDouble residual = subtract(product(x, x));
+        return valueOf(x).add(residual.hi / (2 * x));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s + %s", hi, lo);
+    }
+
+    private static DoubleDouble normalize(double s, double e) {
+        double hi = s + e;
+        return new DoubleDouble(hi, e - (hi - s));
+    }
+}
@@ -0,0 +1,205 @@
+package net.priimak.qe;
+
+import net.priimak.numeric.DoubleValue;
+import net.priimak.numeric.RootSet;
+
+/**
+ * Refinement of roots of quadratic equation with Newton iterations in double-double arithmetic, which gives about
+ * 106 bits of precision. It is the first stage of refinement of the {@code NewQadraticEquationSolver} and the
+ * escalation of the {@link QuadraticEquationSolver.Type#ADAPTIVE} solver, and it needs no arbitrary precision
+ * arithmetic.
+ */
+final class DoubleDoubleRefinement {
+    /**
+     * Maximum number of Newton iterations in double-double arithmetic before giving up.
+     */
+    static final int MAX_ITERATIONS = 8;
+
+    /**
+     * Value of {@link #refine(QuadraticEquation, double)} for the equations roots of which are out of range of doubles.
+     */
+    static final RootSet OVERFLOW = RootSet.of(Double.NaN, Double.NaN);
+
+    private DoubleDoubleRefinement() {
+        throw new AssertionError();
+    }
+
+    /**
+     * @return roots of the equation or null if double-double arithmetic is not sufficient to find them.
+     * @throws OutOfNumericRange if roots are out of range of doubles.
+     */
+    static RootSet solve(QuadraticEquation equation, double maxRelativeError) throws OutOfNumericRange {
+        RootSet roots = refine(equation, maxRelativeError);
+        if (roots == OVERFLOW) {
+            throw new OutOfNumericRange(
+                "Parameters a, b and c are out of range where solution with this precession is possible."
+            );
+        }
+        return roots;
+    }
+
+    /**
+     * Same as {@link #solve(QuadraticEquation, double)}, but overflow of the initial approximations is reported by
+     * returning {@link #OVERFLOW}, which batch solvers store as status without any exception thrown. Overflow is
+     * counted in {@link SolverMetrics}.
+     */
+    static RootSet refine(QuadraticEquation equation, double maxRelativeError) {
+        QuadraticEquation simplifedEquation = QuadraticEquation.simplify(equation);
+        double a = simplifedEquation.getA();
+        double b = simplifedEquation.getB();
+        double c = simplifedEquation.getC();
+
+        DoubleDouble[] roots;
+        if (a != 0 && b != 0 && c != 0 && DoubleDouble.isSafe(a) && DoubleDouble.isSafe(b) && DoubleDouble.isSafe(c)) {
+            roots = citardauqRoots(a, b, c);
+        } else {
+            // corner case or exponents too far apart for double-double discriminant, start from double precision roots
+            double[] root1 = new double[1];
+            double[] root2 = new double[1];
+            int[] rootCount = new int[1];
+            byte[] status = new byte[1];
+            CitardauqQuadraticEquationSolver.solve(a, b, c, 0, root1, root2, rootCount, status);
+            if (status[0] == SolutionStatus.OVERFLOW.code()) {
+                return OVERFLOW;
+            }
+            roots = new DoubleDouble[rootCount[0]];
+            for (int i = 0; i < roots.length; i++) {
+                roots[i] = DoubleDouble.valueOf(i == 0 ? root1[0] : root2[0]);
+            }
+        }
+
+        if (roots.length == 0) {
+            return RootSet.EMPTY;
+        }
+        DoubleValue root1 = polish(equation, a, b, c, roots[0], maxRelativeError);
+        if (root1 == null) {
+            return null;
+        } else if (roots.length == 1) {
+            return RootSet.of(root1.getValue(), root1.getError());
+        }
+        DoubleValue root2 = polish(equation, a, b, c, roots[1], maxRelativeError);
+        if (root2 == null) {
+            return null;
+        }
+        return RootSet.of(root1.getValue(), root1.getError(), root2.getValue(), root2.getError());
+    }
+
+    /**
+     * Same as {@link #solve(QuadraticEquation, double)} for equation with two distinct real roots, but
+     * Newton iterations start from the given approximations of the roots, such as roots of a nearby equation, instead
+     * of the roots found with Citardauq formulae.
+     *
+     * @return roots in the order of their approximations or null if requested relative error was not reached, or
+     *         if both approximations converged to the same root.
+     */
+    static RootSet polish(QuadraticEquation equation, double approximateRoot1, double approximateRoot2,
+                          double maxRelativeError) {
+        QuadraticEquation simplifedEquation = QuadraticEquation.simplify(equation);
+        double a = simplifedEquation.getA();
+        double b = simplifedEquation.getB();
+        double c = simplifedEquation.getC();
+        DoubleValue root1 = polish(
+            equation, a, b, c, DoubleDouble.valueOf(approximateRoot1), maxRelativeError
+        );
+        if (root1 == null) {
+            return null;
+        }
+        DoubleValue root2 = polish(
+            equation, a, b, c, DoubleDouble.valueOf(approximateRoot2), maxRelativeError
+        );
+        if (root2 == null || root1.getValue() == root2.getValue()) {
+            return null;
+        }
+        return RootSet.of(root1.getValue(), root1.getError(), root2.getValue(), root2.getError());
+    }
+
+    /**
+     * Citardauq formulae in double-double arithmetic. Discriminant is computed from the exact products b * b and
+     * 4a * c, so it is accurate even when they nearly cancel each other.
+     */
+    private static DoubleDouble[] citardauqRoots(double a, double b, double c) {
+        DoubleDouble discriminant = DoubleDouble.product(b, b).subtract(DoubleDouble.product(4 * a, c));
+        if (discriminant.signum() < 0) {
+            return new DoubleDouble[0];
+        } else if (discriminant.signum() == 0) {
+            return new DoubleDouble[] {DoubleDouble.valueOf(b).divide(DoubleDouble.valueOf(-2 * a))};
+        }
+        DoubleDouble sqrt = discriminant.sqrt();
+        // q = -(b + sign(b) * sqrt(discriminant)) / 2, roots are q / a and c / q
+        DoubleDouble q = DoubleDouble.valueOf(b).add(b > 0 ? sqrt : sqrt.negate()).multiply(-0.5);
+        DoubleDouble nearRoot = DoubleDouble.valueOf(c).divide(q);
+        DoubleDouble farRoot = q.divide(DoubleDouble.valueOf(a));
+        return b > 0 ? new DoubleDouble[] {nearRoot, farRoot} : new DoubleDouble[] {farRoot, nearRoot};
+    }
+
+    /**
+     * Polish root of the equation ax^2 + bx + c with Newton iterations in double-double arithmetic. Iterations run on
+     * the equation in y = x / 2^k, where 2^k is the scale of the root, and scaled such that largest of its parameters
+     * is of order of 1, so that double-double arithmetic stays in the range where it is accurate.
+     *
+     * @param equation original equation used to deduce error of the root.
+     * @return root with its error or null if requested relative error was not reached.
+     */
+    private static DoubleValue polish(QuadraticEquation equation, double a, double b, double c,
+                                      DoubleDouble root, double maxRelativeError) {
+        if (root.signum() == 0) {
+            // only possible in corner cases where root 0 is exact
+            return toValue(equation, root, root);
+        } else if (!root.isFinite()) {
+            return null;
+        }
+        int k = Math.getExponent(root.hi());
+        int scale = Math.max(
+            Math.max(exponent(a, 2 * k), exponent(b, k)),
+            exponent(c, 0)
+        );
+        double aScaled = Math.scalb(a, 2 * k - scale);
+        double bScaled = Math.scalb(b, k - scale);
+        double cScaled = Math.scalb(c, -scale);
+
+        DoubleDouble y = root.scalb(-k);
+        for (int i = 0; i < MAX_ITERATIONS; i++) {
+            DoubleDouble value = y.multiply(aScaled).add(bScaled).multiply(y).add(cScaled);
+            if (value.signum() == 0) {
+                SolverMetrics.record(SolverMetrics.Distribution.DOUBLE_DOUBLE_ITERATIONS, i);
+                return toValue(equation, y.scalb(k), y.scalb(k));
+            }
+            DoubleDouble derivative = y.multiply(2 * aScaled).add(bScaled);
+            if (derivative.signum() == 0 || !value.isFinite() || !derivative.isFinite()) {
+                return null;
+            }
+            DoubleDouble yNext = y.subtract(value.divide(derivative));
+            if (Math.abs(yNext.subtract(y).doubleValue()) < maxRelativeError * Math.abs(y.doubleValue())) {
+                SolverMetrics.record(SolverMetrics.Distribution.DOUBLE_DOUBLE_ITERATIONS, i + 1);
+                return toValue(equation, yNext.scalb(k), y.scalb(k));
+            }
+            y = yNext;
+        }
+        SolverMetrics.record(SolverMetrics.Distribution.DOUBLE_DOUBLE_ITERATIONS, MAX_ITERATIONS);
+        return null;
+    }
+
+    /**
+     * @return exponent of the number multiplied by 2^shift or {@link Integer#MIN_VALUE} if number is 0.
+     */
+    private static int exponent(double number, int shift) {
+        return number == 0 ? Integer.MIN_VALUE : Math.getExponent(number) + shift;
+    }
+
+    /**
+     * @param root refined root
+     * @param previous previous approximation of the root
+     */
+    private static DoubleValue toValue(QuadraticEquation equation, DoubleDouble root, DoubleDouble previous) {
+        double theRoot = root.doubleValue();
+        return new DoubleValue(
+            theRoot,
+            QuadraticEquationEvaluator.compute(equation, theRoot) == 0 ?
+                0.0D :
+                Math.max(
+                    Math.abs(previous.subtract(DoubleDouble.valueOf(theRoot)).doubleValue()),
+                    QuadraticEquation.getDelta(theRoot)
+                )
+        );
+    }
+}
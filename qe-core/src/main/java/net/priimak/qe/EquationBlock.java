@@ -0,0 +1,335 @@
+package net.priimak.qe;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import net.priimak.numeric.RootSet;
+
+/**
+ * Columnar store of quadratic equations and their solutions kept off heap, in direct buffers of native byte order,
+ * for workloads too large to be held as {@link QuadraticEquation} objects or even as parallel arrays. Every equation
+ * takes 58 bytes: parameters a, b and c, two roots and their errors are stored in columns of doubles, number of roots
+ * and {@link SolutionStatus#code() status code} in columns of bytes. Capacity of one block is limited by the maximum
+ * size of a buffer to {@link #MAX_CAPACITY} equations, larger workloads are processed as sequences of blocks.
+ * <p>
+ * Equations are read without materializing objects through the flyweight {@link Cursor}, which shares
+ * {@link QuadraticCoefficients} with {@link QuadraticEquation}, so that it is evaluated by
+ * {@link QuadraticEquationEvaluator} and its errors are deduced by
+ * {@link QuadraticEquation#deduceErrors(QuadraticCoefficients, double[])} as is. Equations are solved in place by
+ * {@link #solve(QuadraticEquationSolver)}. Batch kernels of the solvers work on heap arrays, so columns are staged
+ * through heap arrays of {@link #CHUNK_SIZE} equations, which are allocated once per call rather than per equation.
+ * Block is not thread safe.
+ */
+public final class EquationBlock {
+    /**
+     * Maximum number of equations in one block.
+     */
+    public static final int MAX_CAPACITY = Integer.MAX_VALUE / Double.BYTES;
+
+    /**
+     * Number of equations copied to and from the heap at once while solving.
+     */
+    public static final int CHUNK_SIZE = 4096;
+
+    /**
+     * Status code of equations added to the block but not solved yet, which no {@link SolutionStatus} has.
+     */
+    private static final byte UNSOLVED = -1;
+
+    private final int capacity;
+    private final DoubleBuffer a;
+    private final DoubleBuffer b;
+    private final DoubleBuffer c;
+    private final DoubleBuffer root1;
+    private final DoubleBuffer root2;
+    private final DoubleBuffer error1;
+    private final DoubleBuffer error2;
+    private final ByteBuffer rootCount;
+    private final ByteBuffer status;
+    private int size;
+
+    /**
+     * Allocate block for up to given number of equations.
+     *
+     * @throws IllegalArgumentException if capacity is negative or greater than {@link #MAX_CAPACITY}.
+     */
+    public EquationBlock(int capacity) {
+        if (capacity < 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException(String.format(
+                "Capacity %s is out of range [0, %s]", capacity, MAX_CAPACITY
+            ));
+        }
+        this.capacity = capacity;
+        this.a = allocateDoubles(capacity);
+        this.b = allocateDoubles(capacity);
+        this.c = allocateDoubles(capacity);
+        this.root1 = allocateDoubles(capacity);
+        this.root2 = allocateDoubles(capacity);
+        this.error1 = allocateDoubles(capacity);
+        this.error2 = allocateDoubles(capacity);
+        this.rootCount = ByteBuffer.allocateDirect(capacity);
+        this.status = ByteBuffer.allocateDirect(capacity);
+    }
+
+    private static DoubleBuffer allocateDoubles(int capacity) {
+        return ByteBuffer.allocateDirect(capacity * Double.BYTES).order(ByteOrder.nativeOrder()).asDoubleBuffer();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return number of equations in the block.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Append equation ax^2 + bx + c = 0 to the block. It is not solved until next call to
+     * {@link #solve(QuadraticEquationSolver)}, roots of the unsolved equation are NaN and its status is null.
+     *
+     * @return index of the equation.
+     * @throws IllegalStateException if block is full.
+     */
+    public int add(double a, double b, double c) {
+        if (size == capacity) {
+            throw new IllegalStateException("Block is full");
+        }
+        int index = size++;
+        this.a.put(index, a);
+        this.b.put(index, b);
+        this.c.put(index, c);
+        clearSolution(index);
+        return index;
+    }
+
+    /**
+     * Remove all equations from the block, retaining its memory.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * @return cursor positioned before the first equation of the block.
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Same as {@link #solve(QuadraticEquationSolver, boolean)} without errors.
+     */
+    public void solve(QuadraticEquationSolver solver) {
+        solve(solver, false);
+    }
+
+    /**
+     * Solve all equations of the block with the batch kernel of the given solver as
+     * {@link QuadraticEquationSolver#solve(double[], double[], double[], int, int, double[], double[], int[], byte[])}
+     * does, storing roots, their number and status in the block.
+     *
+     * @param withErrors true if errors of the roots should be deduced with
+     *        {@link QuadraticEquation#deduceErrors(QuadraticCoefficients, double[])}, which is far slower than solving
+     *        equations with double precision solvers and allocates. Otherwise errors are set to NaN.
+     */
+    public void solve(QuadraticEquationSolver solver, boolean withErrors) {
+        int chunkSize = Math.min(CHUNK_SIZE, size);
+        double[] chunkA = new double[chunkSize];
+        double[] chunkB = new double[chunkSize];
+        double[] chunkC = new double[chunkSize];
+        double[] chunkRoot1 = new double[chunkSize];
+        double[] chunkRoot2 = new double[chunkSize];
+        double[] chunkError1 = new double[chunkSize];
+        double[] chunkError2 = new double[chunkSize];
+        int[] chunkRootCount = new int[chunkSize];
+        byte[] chunkStatus = new byte[chunkSize];
+        Cursor cursor = new Cursor();
+        for (int first = 0; first < size; first += chunkSize) {
+            int length = Math.min(chunkSize, size - first);
+            read(a, first, chunkA, length);
+            read(b, first, chunkB, length);
+            read(c, first, chunkC, length);
+            solver.solve(chunkA, chunkB, chunkC, 0, length, chunkRoot1, chunkRoot2, chunkRootCount, chunkStatus);
+            for (int i = 0; i < length; i++) {
+                rootCount.put(first + i, (byte) chunkRootCount[i]);
+                if (withErrors) {
+                    RootSet roots = deduceErrors(
+                        cursor.moveTo(first + i), chunkRootCount[i], chunkRoot1[i], chunkRoot2[i]
+                    );
+                    chunkError1[i] = roots.size() > 0 ? roots.getError(0) : Double.NaN;
+                    chunkError2[i] = roots.size() > 1 ? roots.getError(1) : Double.NaN;
+                } else {
+                    chunkError1[i] = Double.NaN;
+                    chunkError2[i] = Double.NaN;
+                }
+            }
+            write(chunkRoot1, root1, first, length);
+            write(chunkRoot2, root2, first, length);
+            write(chunkError1, error1, first, length);
+            write(chunkError2, error2, first, length);
+            ((Buffer) status).position(first);
+            status.put(chunkStatus, 0, length);
+        }
+    }
+
+    private static RootSet deduceErrors(Cursor equation, int rootCount, double root1, double root2) {
+        switch (rootCount) {
+            case 0:
+                return RootSet.EMPTY;
+            case 1:
+                return QuadraticEquation.deduceErrors(equation, new double[] {root1});
+            default:
+                return QuadraticEquation.deduceErrors(equation, new double[] {root1, root2});
+        }
+    }
+
+    // buffers are cast to Buffer, so that code compiled by newer JDKs runs on Java 8, which lacks covariant overrides
+    private static void read(DoubleBuffer column, int first, double[] chunk, int length) {
+        ((Buffer) column).position(first);
+        column.get(chunk, 0, length);
+    }
+
+    private static void write(double[] chunk, DoubleBuffer column, int first, int length) {
+        ((Buffer) column).position(first);
+        column.put(chunk, 0, length);
+    }
+
+    private void clearSolution(int index) {
+        root1.put(index, Double.NaN);
+        root2.put(index, Double.NaN);
+        error1.put(index, Double.NaN);
+        error2.put(index, Double.NaN);
+        rootCount.put(index, (byte) 0);
+        status.put(index, UNSOLVED);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("Index %s is out of range [0, %s)", index, size));
+        }
+    }
+
+    /**
+     * Flyweight view of one equation of the block and of its solution. Cursor moves over the block without
+     * allocating, objects are created only by {@link #toEquation()}.
+     */
+    public final class Cursor implements QuadraticCoefficients {
+        private int index = -1;
+
+        Cursor() {
+        }
+
+        /**
+         * Move to the next equation.
+         *
+         * @return false if there are no more equations.
+         */
+        public boolean next() {
+            if (index + 1 < size) {
+                index++;
+                return true;
+            } else {
+                return false;
+            }
+        }
+
+        /**
+         * Move to the equation with given index.
+         *
+         * @throws IndexOutOfBoundsException if there is no such equation in the block.
+         */
+        public Cursor moveTo(int index) {
+            checkIndex(index);
+            this.index = index;
+            return this;
+        }
+
+        /**
+         * @return index of the current equation.
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        @Override
+        public double getA() {
+            return a.get(index);
+        }
+
+        @Override
+        public double getB() {
+            return b.get(index);
+        }
+
+        @Override
+        public double getC() {
+            return c.get(index);
+        }
+
+        /**
+         * @return number of roots, 0 if there are no real roots, solution overflowed or equation was not solved.
+         */
+        public int getRootCount() {
+            return rootCount.get(index);
+        }
+
+        /**
+         * @return true if the current equation was solved since it was added to the block.
+         */
+        public boolean isSolved() {
+            return status.get(index) != UNSOLVED;
+        }
+
+        /**
+         * @return status of the solution of the current equation or null if it was not solved yet.
+         */
+        public SolutionStatus getStatus() {
+            byte code = status.get(index);
+            return code == UNSOLVED ? null : SolutionStatus.fromCode(code);
+        }
+
+        /**
+         * @return first root or NaN if there are no roots.
+         */
+        public double getRoot1() {
+            return root1.get(index);
+        }
+
+        /**
+         * @return second root or NaN if there are less than two roots.
+         */
+        public double getRoot2() {
+            return root2.get(index);
+        }
+
+        /**
+         * @return error of the first root or NaN if errors were not deduced.
+         */
+        public double getError1() {
+            return error1.get(index);
+        }
+
+        /**
+         * @return error of the second root or NaN if errors were not deduced.
+         */
+        public double getError2() {
+            return error2.get(index);
+        }
+
+        /**
+         * @return current equation as an object.
+         */
+        public QuadraticEquation toEquation() {
+            return new QuadraticEquation(getA(), getB(), getC());
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s * x^2 + %s * x + %s", getA(), getB(), getC());
+        }
+    }
+}
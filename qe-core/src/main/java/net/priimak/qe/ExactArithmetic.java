@@ -0,0 +1,120 @@
+package net.priimak.qe;
+
+/**
+ * Error free transformations of double precision arithmetic and exact summation built on top of them. Product
+ * transformation relies on Dekker's algorithm with Veltkamp splitting and does not need fused multiply-add.
+ */
+final class ExactArithmetic {
+    /**
+     * 2^27 + 1, used to split double into two halves of 26 bits each.
+     */
+    private static final double SPLITTER = 134217729.0D;
+
+    /**
+     * Largest magnitude of the factor that can be split without overflow.
+     */
+    private static final double SPLIT_LIMIT = 0x1.0p995;
+
+    /**
+     * Smallest sum of exponents of two factors for which error of their product does not underflow.
+     */
+    private static final int MIN_EXPONENT_SUM = -969;
+
+    private ExactArithmetic() {
+        throw new AssertionError();
+    }
+
+    /**
+     * @return error of the floating point sum {@code a + b}, such that {@code a + b = sum + error} exactly.
+     */
+    static double twoSumError(double a, double b, double sum) {
+        double bVirtual = sum - a;
+        double aVirtual = sum - bVirtual;
+        return (a - aVirtual) + (b - bVirtual);
+    }
+
+    /**
+     * @return error of the floating point product {@code a * b}, such that {@code a * b = product + error} exactly
+     *         provided that {@link #isProductExact(double, double, double)} holds.
+     */
+    static double twoProductError(double a, double b, double product) {
+        double t = SPLITTER * a;
+        double aHigh = t - (t - a);
+        double aLow = a - aHigh;
+        t = SPLITTER * b;
+        double bHigh = t - (t - b);
+        double bLow = b - bHigh;
+        return ((aHigh * bHigh - product) + aHigh * bLow + aLow * bHigh) + aLow * bLow;
+    }
+
+    /**
+     * @return true if {@link #twoProductError(double, double, double)} is exact for given finite factors, i.e.
+     *         neither splitting overflows nor error of the product underflows.
+     */
+    static boolean isProductExact(double a, double b, double product) {
+        return a == 0
+            || b == 0
+            || (Math.abs(a) <= SPLIT_LIMIT
+                && Math.abs(b) <= SPLIT_LIMIT
+                && Math.getExponent(a) + Math.getExponent(b) >= MIN_EXPONENT_SUM
+                && Double.isFinite(product));
+    }
+
+    /**
+     * Sum given terms exactly. Terms are replaced in place by the nonoverlapping expansion of their sum, which
+     * never needs more components than there are terms.
+     *
+     * @param terms terms to sum.
+     * @param count number of terms to sum.
+     * @return sum of the terms correctly rounded to nearest, ties to even, which is never 0 unless exact sum is 0.
+     *         NaN is returned if intermediate sum overflowed.
+     */
+    static double sum(double[] terms, int count) {
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            // Shewchuk's grow expansion with zero elimination, components are kept in the increasing magnitude
+            double q = terms[i];
+            int newSize = 0;
+            for (int j = 0; j < size; j++) {
+                double sum = q + terms[j];
+                double error = twoSumError(q, terms[j], sum);
+                q = sum;
+                if (error != 0) {
+                    terms[newSize++] = error;
+                }
+            }
+            if (!Double.isFinite(q)) {
+                return Double.NaN;
+            } else if (q != 0) {
+                terms[newSize++] = q;
+            }
+            size = newSize;
+        }
+
+        if (size == 0) {
+            return 0;
+        }
+        // add components from the largest one until first rounding error, as fsum of Python does, components are
+        // nonoverlapping, hence the rest of them can only decide rounding of a tie
+        double result = terms[--size];
+        double error = 0;
+        while (size > 0) {
+            double x = result;
+            double y = terms[--size];
+            result = x + y;
+            error = y - (result - x);
+            if (error != 0) {
+                break;
+            }
+        }
+        if (size > 0 && ((error < 0 && terms[size - 1] < 0) || (error > 0 && terms[size - 1] > 0))) {
+            // result + error is a tie and remaining components push exact sum past it
+            double y = error * 2;
+            double x = result + y;
+            if (y == x - result) {
+                result = x;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,103 @@
+package net.priimak.qe;
+
+enum ExtendedRangeQuadraticEquationSolver implements QuadraticEquationSolver {
+    /**
+     * Instance of {@link ExtendedRangeQuadraticEquationSolver} that solves quadratic equation using Citardauq formulae
+     * in double precision with exponents of the parameters, discriminant and roots tracked separately from their
+     * mantissas. See {@link QuadraticEquationSolver.Type#EXTENDED_RANGE} for more details.
+     */
+    INSTANCE;
+
+    /**
+     * 2^54, which brings any subnormal number into normal range.
+     */
+    private static final double TWO_POW_54 = 0x1.0p54;
+
+    @Override
+    public double[] solve(QuadraticEquation equation) throws OutOfNumericRange {
+        double[] result = QuadraticEquationSolverFactory.handleCornerCases(equation);
+        if (result != null) {
+            return result;
+        }
+        double[] roots = new double[2];
+        int count = solveInExtendedRange(equation.getA(), equation.getB(), equation.getC(), roots);
+        if (count == 0) {
+            return QuadraticEquationSolverFactory.NO_SOLUTIONS;
+        } else if (count == 1) {
+            return new double[] {QuadraticEquationSolverFactory.ensureFiniteNumber(roots[0])};
+        } else {
+            QuadraticEquationSolverFactory.ensureFiniteNumber(roots[0]);
+            QuadraticEquationSolverFactory.ensureFiniteNumber(roots[1]);
+            return roots;
+        }
+    }
+
+    @Override
+    public void solve(double[] a, double[] b, double[] c, int offset, int length,
+                      double[] root1, double[] root2, int[] rootCount, byte[] status) {
+        QuadraticEquationSolverFactory.checkBatchRange(offset, length, a, b, c, root1, root2, rootCount, status);
+        double[] roots = new double[2];
+        for (int i = offset; i < offset + length; i++) {
+            if (!QuadraticEquationSolverFactory.handleCornerCases(a[i], b[i], c[i], i, root1, root2, rootCount, status)) {
+                int count = solveInExtendedRange(a[i], b[i], c[i], roots);
+                QuadraticEquationSolverFactory.storeRoots(
+                    i, count, count > 0 ? roots[0] : Double.NaN, count > 1 ? roots[1] : Double.NaN,
+                    root1, root2, rootCount, status
+                );
+            }
+        }
+    }
+
+    /**
+     * Solve equation, none of the parameters of which is 0, splitting every parameter into mantissa m, 1 <= |m| < 2,
+     * and exponent e. Discriminant b^2 - 4ac is computed as mantissa scaled to the larger of exponents of b^2 and 4ac
+     * and its own exponent, hence it neither overflows nor underflows, and roots are scaled back into double only at
+     * the very end, so they overflow only if they are not representable as doubles.
+     *
+     * @param roots array of size 2 to store roots into.
+     * @return number of real roots, 0, 1 or 2. Roots that do not fit into double are stored as infinities.
+     */
+    static int solveInExtendedRange(double a, double b, double c, double[] roots) {
+        int aExponent = exponent(a);
+        int bExponent = exponent(b);
+        int cExponent = exponent(c);
+        double aMantissa = Math.scalb(a, -aExponent);
+        double bMantissa = Math.scalb(b, -bExponent);
+        double cMantissa = Math.scalb(c, -cExponent);
+
+        // b^2 - 4ac = discriminant * 2^discriminantExponent
+        int discriminantExponent = Math.max(2 * bExponent, aExponent + cExponent + 2);
+        double discriminant = Math.scalb(bMantissa * bMantissa, 2 * bExponent - discriminantExponent)
+            - Math.scalb(aMantissa * cMantissa, aExponent + cExponent + 2 - discriminantExponent);
+        SolverMetrics.countDiscriminant(discriminant);
+        if (discriminant < 0) {
+            return 0;
+        } else if (discriminant == 0) {
+            roots[0] = Math.scalb(- (bMantissa / aMantissa) / 2, bExponent - aExponent);
+            return 1;
+        }
+
+        // make exponent even, so that square root of the discriminant is sqrt(discriminant) * 2^(exponent / 2)
+        if ((discriminantExponent & 1) != 0) {
+            discriminant *= 2;
+            discriminantExponent--;
+        }
+        int sqrtExponent = discriminantExponent / 2;
+        // q = -(b + sign(b) * sqrt(b^2 - 4ac)) / 2 = qMantissa * 2^sqrtExponent
+        double qMantissa = - (Math.scalb(bMantissa, bExponent - sqrtExponent)
+            + Math.copySign(Math.sqrt(discriminant), bMantissa)) / 2;
+        double farRoot = Math.scalb(qMantissa / aMantissa, sqrtExponent - aExponent);
+        double nearRoot = Math.scalb(cMantissa / qMantissa, cExponent - sqrtExponent);
+        roots[0] = b > 0 ? nearRoot : farRoot;
+        roots[1] = b > 0 ? farRoot : nearRoot;
+        return 2;
+    }
+
+    /**
+     * @return unbiased exponent of non zero finite number, which unlike {@link Math#getExponent(double)} is exact for
+     *         subnormal numbers too.
+     */
+    private static int exponent(double x) {
+        return Math.abs(x) < Double.MIN_NORMAL ? Math.getExponent(x * TWO_POW_54) - 54 : Math.getExponent(x);
+    }
+}
@@ -0,0 +1,206 @@
+package net.priimak.qe;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import net.priimak.numeric.RootSet;
+
+/**
+ * Pipeline that solves all equations stored in a binary file and writes their solutions into another binary file.
+ * Both files are memory-mapped one block at a time, so memory used by the pipeline is bounded by the size of the block
+ * no matter how large files are.
+ * <p>
+ * Input file is a sequence of little-endian double triples (a, b, c), 24 bytes per equation. Output file has one
+ * fixed-width little-endian record per equation in the same order:
+ * <pre>
+ *     offset  size  field
+ *          0     1  number of roots, 0, 1 or 2
+ *          1     1  {@link SolutionStatus#code() status code}
+ *          2     6  padding
+ *          8     8  first root or NaN
+ *         16     8  second root or NaN
+ *         24     8  error of the first root or NaN, only if errors are requested
+ *         32     8  error of the second root or NaN, only if errors are requested
+ * </pre>
+ * Errors are deduced with {@link QuadraticEquation#deduceErrors(QuadraticCoefficients, double[])}, which is far slower than
+ * solving equations with double precision solvers.
+ */
+public final class FileSolvingPipeline {
+    /**
+     * Size of the input record in bytes.
+     */
+    public static final int INPUT_RECORD_SIZE = 3 * Double.BYTES;
+
+    /**
+     * Size of the output record in bytes without errors.
+     */
+    public static final int OUTPUT_RECORD_SIZE = 3 * Double.BYTES;
+
+    /**
+     * Size of the output record in bytes with errors.
+     */
+    public static final int OUTPUT_RECORD_WITH_ERRORS_SIZE = 5 * Double.BYTES;
+
+    public static final int DEFAULT_BLOCK_SIZE = 65536;
+
+    private final QuadraticEquationSolver solver;
+    private final int blockSize;
+    private final boolean withErrors;
+
+    /**
+     * @param solver solver to solve every block with.
+     * @param blockSize number of equations mapped and solved at once.
+     * @param withErrors true if errors of the roots should be deduced and written to the output.
+     */
+    public FileSolvingPipeline(QuadraticEquationSolver solver, int blockSize, boolean withErrors) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be positive");
+        }
+        this.solver = solver;
+        this.blockSize = blockSize;
+        this.withErrors = withErrors;
+    }
+
+    /**
+     * Solve all equations in the input file writing solutions into output file, which is created or truncated.
+     *
+     * @return statistics of the run.
+     * @throws IOException if files cannot be read or written or size of the input file is not multiple of
+     *         {@link #INPUT_RECORD_SIZE}.
+     */
+    public Statistics run(Path input, Path output) throws IOException {
+        long startTime = System.nanoTime();
+        int outputRecordSize = withErrors ? OUTPUT_RECORD_WITH_ERRORS_SIZE : OUTPUT_RECORD_SIZE;
+        try (
+            FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+            FileChannel out = FileChannel.open(
+                output,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE
+            )
+        ) {
+            long inputSize = in.size();
+            if (inputSize % INPUT_RECORD_SIZE != 0) {
+                throw new IOException(String.format(
+                    "Size of %s is %s bytes, which is not multiple of %s", input, inputSize, INPUT_RECORD_SIZE
+                ));
+            }
+            long equations = inputSize / INPUT_RECORD_SIZE;
+            Block block = new Block(blockSize);
+            for (long first = 0; first < equations; first += blockSize) {
+                int length = (int) Math.min(blockSize, equations - first);
+                MappedByteBuffer inputBuffer = in.map(
+                    FileChannel.MapMode.READ_ONLY, first * INPUT_RECORD_SIZE, (long) length * INPUT_RECORD_SIZE
+                );
+                MappedByteBuffer outputBuffer = out.map(
+                    FileChannel.MapMode.READ_WRITE, first * outputRecordSize, (long) length * outputRecordSize
+                );
+                block.read(inputBuffer, length);
+                solver.solve(block.a, block.b, block.c, 0, length, block.root1, block.root2, block.rootCount, block.status);
+                block.write(outputBuffer, length);
+            }
+            return new Statistics(equations, System.nanoTime() - startTime);
+        }
+    }
+
+    /**
+     * Buffers of one block of equations, reused for all blocks of the file.
+     */
+    private final class Block {
+        private final double[] a;
+        private final double[] b;
+        private final double[] c;
+        private final double[] root1;
+        private final double[] root2;
+        private final int[] rootCount;
+        private final byte[] status;
+
+        Block(int size) {
+            this.a = new double[size];
+            this.b = new double[size];
+            this.c = new double[size];
+            this.root1 = new double[size];
+            this.root2 = new double[size];
+            this.rootCount = new int[size];
+            this.status = new byte[size];
+        }
+
+        void read(MappedByteBuffer buffer, int length) {
+            DoubleBuffer doubles = buffer.order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+            for (int i = 0; i < length; i++) {
+                a[i] = doubles.get(3 * i);
+                b[i] = doubles.get(3 * i + 1);
+                c[i] = doubles.get(3 * i + 2);
+            }
+        }
+
+        void write(MappedByteBuffer buffer, int length) {
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            for (int i = 0; i < length; i++) {
+                buffer.put((byte) rootCount[i]);
+                buffer.put(status[i]);
+                buffer.putShort((short) 0);
+                buffer.putInt(0);
+                buffer.putDouble(root1[i]);
+                buffer.putDouble(root2[i]);
+                if (withErrors) {
+                    RootSet roots = deduceErrors(i);
+                    buffer.putDouble(roots.size() > 0 ? roots.getError(0) : Double.NaN);
+                    buffer.putDouble(roots.size() > 1 ? roots.getError(1) : Double.NaN);
+                }
+            }
+        }
+
+        private RootSet deduceErrors(int index) {
+            switch (rootCount[index]) {
+                case 0:
+                    return RootSet.EMPTY;
+                case 1:
+                    return QuadraticEquation.deduceErrors(
+                        new QuadraticEquation(a[index], b[index], c[index]), new double[] {root1[index]}
+                    );
+                default:
+                    return QuadraticEquation.deduceErrors(
+                        new QuadraticEquation(a[index], b[index], c[index]), new double[] {root1[index], root2[index]}
+                    );
+            }
+        }
+    }
+
+    /**
+     * Statistics of one run of the pipeline.
+     */
+    public static final class Statistics {
+        private final long equations;
+        private final long elapsedNanos;
+
+        Statistics(long equations, long elapsedNanos) {
+            this.equations = equations;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public long getEquations() {
+            return equations;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        public double getEquationsPerSecond() {
+            return elapsedNanos == 0 ? 0 : equations * 1.0E9 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                "Solved %s equations in %.3f s, %.0f equations/sec",
+                equations, elapsedNanos / 1.0E9, getEquationsPerSecond()
+            );
+        }
+    }
+}
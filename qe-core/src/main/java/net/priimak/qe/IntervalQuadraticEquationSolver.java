@@ -0,0 +1,225 @@
+package net.priimak.qe;
+
+import net.priimak.numeric.Interval;
+
+/**
+ * Solver that encloses every real root of quadratic equation in an {@link Interval} which is guaranteed to contain it.
+ * Unlike {@link QuadraticEquation#deduceErrors(QuadraticCoefficients, double[])} and {@code NewQadraticEquationSolver},
+ * which estimate errors, it bounds them and does so in double precision only.
+ * <p>
+ * Roots are first enclosed by evaluating Citardauq formulae in interval arithmetic, with discriminant known to be of
+ * the sign of the exact one, and then enclosures are narrowed by interval Newton steps
+ * {@code N(X) = m - f(m) / f'(X)}, intersected with X. Outward rounding is emulated by stepping to
+ * {@link Math#nextDown(double)} or {@link Math#nextUp(double)} of the rounded result, but only in the direction of
+ * the rounding error, which error free transformations of {@link ExactArithmetic} tell exactly for sums and products.
+ */
+public enum IntervalQuadraticEquationSolver {
+    INSTANCE;
+
+    /**
+     * Default number of interval Newton steps applied to the initial enclosure of every root.
+     */
+    public static final int DEFAULT_NEWTON_STEPS = 2;
+
+    private static final Interval[] NO_SOLUTIONS = new Interval[0];
+
+    /**
+     * Same as {@link #solve(QuadraticEquation, int)} with {@link #DEFAULT_NEWTON_STEPS}.
+     */
+    public Interval[] solve(QuadraticEquation equation) throws OutOfNumericRange {
+        return solve(equation, DEFAULT_NEWTON_STEPS);
+    }
+
+    /**
+     * Enclose roots of quadratic equation ax^2 + bx + c = 0.
+     *
+     * @param newtonSteps maximum number of interval Newton steps narrowing enclosure of every root.
+     * @return enclosures of 0, 1 or 2 real roots in the same order as roots returned by the
+     *         {@link QuadraticEquationSolver.Type#CITARDAUQ} solver.
+     * @throws OutOfNumericRange if any of the enclosures does not fit into range of doubles.
+     */
+    public Interval[] solve(QuadraticEquation equation, int newtonSteps) throws OutOfNumericRange {
+        double div = QuadraticEquation.simplificationDivisor(equation.getA(), equation.getB(), equation.getC());
+        double a = equation.getA() / div;
+        double b = equation.getB() / div;
+        double c = equation.getC() / div;
+        Interval[] roots = enclose(a, b, c);
+        if (a != 0) {
+            for (int i = 0; i < roots.length; i++) {
+                for (int step = 0; step < newtonSteps && roots[i].getWidth() > 0; step++) {
+                    roots[i] = newtonStep(a, b, c, roots[i]);
+                }
+            }
+        }
+        return roots;
+    }
+
+    /**
+     * @return initial enclosures of the roots.
+     */
+    private static Interval[] enclose(double a, double b, double c) throws OutOfNumericRange {
+        if (a == 0) {
+            if (b == 0) {
+                return NO_SOLUTIONS;
+            } else if (c == 0) {
+                return new Interval[] {Interval.of(0)};
+            } else {
+                return new Interval[] {divide(Interval.of(-c), Interval.of(b))};
+            }
+        } else if (b == 0) {
+            if (c == 0) {
+                return new Interval[] {Interval.of(0)};
+            } else if ((c > 0) == (a > 0)) {
+                return NO_SOLUTIONS;
+            } else {
+                // x^2 = -c/a > 0
+                Interval root = sqrt(divide(Interval.of(-c), Interval.of(a)));
+                return new Interval[] {root, negate(root)};
+            }
+        } else if (c == 0) {
+            return new Interval[] {Interval.of(0), divide(Interval.of(-b), Interval.of(a))};
+        }
+
+        int sign = QuadraticEquationEvaluator.discriminantSign(a, b, c);
+        if (sign < 0) {
+            return NO_SOLUTIONS;
+        } else if (sign == 0) {
+            return new Interval[] {divide(Interval.of(-b), Interval.of(2 * a))};
+        }
+        // b^2 - 4ac, which is known to be positive
+        Interval bSquare = multiply(Interval.of(b), Interval.of(b));
+        Interval fourAc = multiply(Interval.of(4 * a), Interval.of(c));
+        Interval discriminant = add(bSquare, negate(fourAc));
+        Interval sqrt = sqrt(interval(Math.max(discriminant.getLo(), 0), discriminant.getHi()));
+        // q = -(b + sign(b) * sqrt(b^2 - 4ac)) / 2, which never contains 0, roots are q / a and c / q
+        Interval q = multiply(add(Interval.of(b), b > 0 ? sqrt : negate(sqrt)), Interval.of(-0.5));
+        Interval nearRoot = divide(Interval.of(c), q);
+        Interval farRoot = divide(q, Interval.of(a));
+        return b > 0 ? new Interval[] {nearRoot, farRoot} : new Interval[] {farRoot, nearRoot};
+    }
+
+    /**
+     * @return intersection of the enclosure of the root with its interval Newton image, or enclosure itself if
+     *         derivative of ax^2 + bx + c over it contains 0.
+     */
+    private static Interval newtonStep(double a, double b, double c, Interval root) throws OutOfNumericRange {
+        Interval derivative = add(multiply(Interval.of(2 * a), root), Interval.of(b));
+        if (derivative.contains(0)) {
+            return root;
+        }
+        Interval m = Interval.of(root.getMidpoint());
+        Interval value = add(multiply(add(multiply(Interval.of(a), m), Interval.of(b)), m), Interval.of(c));
+        Interval newton = add(m, negate(divide(value, derivative)));
+        double lo = Math.max(root.getLo(), newton.getLo());
+        double hi = Math.min(root.getHi(), newton.getHi());
+        // empty intersection would mean there is no root, which rounding errors cannot cause
+        return lo <= hi ? new Interval(lo, hi) : root;
+    }
+
+    private static Interval interval(double lo, double hi) throws OutOfNumericRange {
+        if (!Double.isFinite(lo) || !Double.isFinite(hi)) {
+            return new Interval(QuadraticEquationSolverFactory.ensureFiniteNumber(lo),
+                QuadraticEquationSolverFactory.ensureFiniteNumber(hi));
+        }
+        return new Interval(lo, hi);
+    }
+
+    private static Interval negate(Interval x) {
+        return new Interval(-x.getHi(), -x.getLo());
+    }
+
+    private static Interval add(Interval x, Interval y) throws OutOfNumericRange {
+        return interval(sumLo(x.getLo(), y.getLo()), sumHi(x.getHi(), y.getHi()));
+    }
+
+    private static Interval multiply(Interval x, Interval y) throws OutOfNumericRange {
+        double lo = Math.min(
+            Math.min(productLo(x.getLo(), y.getLo()), productLo(x.getLo(), y.getHi())),
+            Math.min(productLo(x.getHi(), y.getLo()), productLo(x.getHi(), y.getHi()))
+        );
+        double hi = Math.max(
+            Math.max(productHi(x.getLo(), y.getLo()), productHi(x.getLo(), y.getHi())),
+            Math.max(productHi(x.getHi(), y.getLo()), productHi(x.getHi(), y.getHi()))
+        );
+        return interval(lo, hi);
+    }
+
+    /**
+     * @param y divisor which must not contain 0.
+     */
+    private static Interval divide(Interval x, Interval y) throws OutOfNumericRange {
+        double lo = Math.min(
+            Math.min(quotientLo(x.getLo(), y.getLo()), quotientLo(x.getLo(), y.getHi())),
+            Math.min(quotientLo(x.getHi(), y.getLo()), quotientLo(x.getHi(), y.getHi()))
+        );
+        double hi = Math.max(
+            Math.max(quotientHi(x.getLo(), y.getLo()), quotientHi(x.getLo(), y.getHi())),
+            Math.max(quotientHi(x.getHi(), y.getLo()), quotientHi(x.getHi(), y.getHi()))
+        );
+        return interval(lo, hi);
+    }
+
+    /**
+     * @param x interval of non negative numbers.
+     */
+    private static Interval sqrt(Interval x) throws OutOfNumericRange {
+        double lo = Math.sqrt(x.getLo());
+        double hi = Math.sqrt(x.getHi());
+        return interval(isSquareExact(lo, x.getLo()) ? lo : Math.nextDown(lo), isSquareExact(hi, x.getHi()) ? hi : Math.nextUp(hi));
+    }
+
+    private static double sumLo(double x, double y) {
+        double sum = x + y;
+        return ExactArithmetic.twoSumError(x, y, sum) < 0 ? Math.nextDown(sum) : sum;
+    }
+
+    private static double sumHi(double x, double y) {
+        double sum = x + y;
+        return ExactArithmetic.twoSumError(x, y, sum) > 0 ? Math.nextUp(sum) : sum;
+    }
+
+    private static double productLo(double x, double y) {
+        double product = x * y;
+        if (ExactArithmetic.isProductExact(x, y, product)) {
+            return ExactArithmetic.twoProductError(x, y, product) < 0 ? Math.nextDown(product) : product;
+        } else {
+            return Math.nextDown(product);
+        }
+    }
+
+    private static double productHi(double x, double y) {
+        double product = x * y;
+        if (ExactArithmetic.isProductExact(x, y, product)) {
+            return ExactArithmetic.twoProductError(x, y, product) > 0 ? Math.nextUp(product) : product;
+        } else {
+            return Math.nextUp(product);
+        }
+    }
+
+    private static double quotientLo(double x, double y) {
+        double quotient = x / y;
+        return isQuotientExact(x, y, quotient) ? quotient : Math.nextDown(quotient);
+    }
+
+    private static double quotientHi(double x, double y) {
+        double quotient = x / y;
+        return isQuotientExact(x, y, quotient) ? quotient : Math.nextUp(quotient);
+    }
+
+    /**
+     * @return true if {@code quotient * y == x} exactly.
+     */
+    private static boolean isQuotientExact(double x, double y, double quotient) {
+        double product = quotient * y;
+        return product == x
+            && ExactArithmetic.isProductExact(quotient, y, product)
+            && ExactArithmetic.twoProductError(quotient, y, product) == 0;
+    }
+
+    /**
+     * @return true if {@code root * root == x} exactly.
+     */
+    private static boolean isSquareExact(double root, double x) {
+        return isQuotientExact(x, root, root) || (root == 0 && x == 0);
+    }
+}
@@ -0,0 +1,102 @@
+package net.priimak.qe;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent histogram of non negative long values, such as latencies in nanoseconds or numbers of iterations, in the
+ * spirit of HdrHistogram. Values below 2^{@link #SUB_BUCKET_BITS + 1} are counted exactly, larger values fall into
+ * buckets whose width is 2^-{@link #SUB_BUCKET_BITS} of their magnitude, so every reported percentile is within about
+ * 3% of the recorded value. Every bucket is a {@link LongAdder}, so recording from many threads does not contend.
+ */
+final class LogLinearHistogram {
+    static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (63 - SUB_BUCKET_BITS) * SUB_BUCKETS + 2 * SUB_BUCKETS;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    LogLinearHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * @param value value to record, negative values are recorded as 0.
+     */
+    void record(long value) {
+        value = Math.max(value, 0);
+        buckets[index(value)].increment();
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    long getCount() {
+        return count.sum();
+    }
+
+    long getMax() {
+        return max.get();
+    }
+
+    double getMean() {
+        long n = count.sum();
+        return n == 0 ? 0 : (double) sum.sum() / n;
+    }
+
+    /**
+     * @param percentile percentile in range [0, 100].
+     * @return upper bound of the bucket holding value at the given percentile, but not more than maximum recorded
+     *         value, or 0 if nothing was recorded.
+     */
+    long getValueAtPercentile(double percentile) {
+        long n = count.sum();
+        if (n == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * n));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets[i].sum();
+            if (seen >= rank) {
+                return Math.min(upperBound(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        count.reset();
+        sum.reset();
+        max.reset();
+    }
+
+    /**
+     * Values in range [0, 2 * SUB_BUCKETS) map to themselves, larger values with the highest bit m map to
+     * (m - SUB_BUCKET_BITS) * SUB_BUCKETS plus their SUB_BUCKET_BITS + 1 highest bits.
+     */
+    static int index(long value) {
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        if (shift <= 0) {
+            return (int) value;
+        }
+        return shift * SUB_BUCKETS + (int) (value >>> shift);
+    }
+
+    static long upperBound(int index) {
+        if (index < 2 * SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long subBucket = index - shift * SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
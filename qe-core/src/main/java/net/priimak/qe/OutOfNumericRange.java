@@ -11,4 +11,12 @@ public final class OutOfNumericRange extends Exception {
     public OutOfNumericRange(String msg) {
         super(msg);
     }
+
+    /**
+     * @param writableStackTrace false for exceptions that are rethrown in place of the cached ones, for which stack
+     *        trace would be both misleading and costly to fill in.
+     */
+    OutOfNumericRange(String msg, boolean writableStackTrace) {
+        super(msg, null, false, writableStackTrace);
+    }
 }
@@ -0,0 +1,106 @@
+package net.priimak.qe;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Solver that splits batches of equations into chunks and solves them in parallel on a {@link ForkJoinPool} using
+ * solver of a given {@link QuadraticEquationSolver.Type}. Single equations are solved on the calling thread.
+ */
+final class ParallelQuadraticEquationSolver implements QuadraticEquationSolver {
+    /**
+     * Number of equations solved by one task of the double precision solvers. Large enough to make task overhead
+     * negligible and multiple of any SIMD vector length.
+     */
+    static final int DOUBLE_CHUNK_SIZE = 16384;
+
+    /**
+     * Number of equations solved by one task of the arbitrary precision solvers, which are orders of magnitude
+     * slower, so that work is well balanced across cores.
+     */
+    static final int APFLOAT_CHUNK_SIZE = 64;
+
+    private final QuadraticEquationSolver solver;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    ParallelQuadraticEquationSolver(QuadraticEquationSolver.Type type, ForkJoinPool pool) {
+        this.solver = QuadraticEquationSolverFactory.getSolver(type);
+        this.pool = pool;
+        this.chunkSize = chunkSize(type);
+    }
+
+    @Override
+    public double[] solve(QuadraticEquation equation) throws OutOfNumericRange {
+        return solver.solve(equation);
+    }
+
+    @Override
+    public void solve(double a, double b, double c, RootResult result) {
+        solver.solve(a, b, c, result);
+    }
+
+    @Override
+    public void solve(double[] a, double[] b, double[] c, int offset, int length,
+                      double[] root1, double[] root2, int[] rootCount, byte[] status) {
+        QuadraticEquationSolverFactory.checkBatchRange(offset, length, a, b, c, root1, root2, rootCount, status);
+        if (length <= chunkSize) {
+            solver.solve(a, b, c, offset, length, root1, root2, rootCount, status);
+        } else {
+            pool.invoke(new SolveTask(a, b, c, offset, length, root1, root2, rootCount, status));
+        }
+    }
+
+    private static int chunkSize(QuadraticEquationSolver.Type type) {
+        switch (type) {
+            case SIMPLE:
+            case CITARDAUQ:
+            case ADAPTIVE:
+            case EXTENDED_RANGE:
+                return DOUBLE_CHUNK_SIZE;
+            default:
+                return APFLOAT_CHUNK_SIZE;
+        }
+    }
+
+    private final class SolveTask extends RecursiveAction {
+        private static final long serialVersionUID = -3207658911539104718L;
+
+        private final double[] a;
+        private final double[] b;
+        private final double[] c;
+        private final int offset;
+        private final int length;
+        private final double[] root1;
+        private final double[] root2;
+        private final int[] rootCount;
+        private final byte[] status;
+
+        SolveTask(double[] a, double[] b, double[] c, int offset, int length,
+                  double[] root1, double[] root2, int[] rootCount, byte[] status) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.offset = offset;
+            this.length = length;
+            this.root1 = root1;
+            this.root2 = root2;
+            this.rootCount = rootCount;
+            this.status = status;
+        }
+
+        @Override
+        protected void compute() {
+            if (length <= chunkSize) {
+                solver.solve(a, b, c, offset, length, root1, root2, rootCount, status);
+            } else {
+                // split on the chunk boundary so that every task but the last one solves whole chunks
+                int leftLength = (length / chunkSize + 1) / 2 * chunkSize;
+                invokeAll(
+                    new SolveTask(a, b, c, offset, leftLength, root1, root2, rootCount, status),
+                    new SolveTask(a, b, c, offset + leftLength, length - leftLength, root1, root2, rootCount, status)
+                );
+            }
+        }
+    }
+}
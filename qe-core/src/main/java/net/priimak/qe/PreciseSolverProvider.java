@@ -0,0 +1,20 @@
+package net.priimak.qe;
+
+/**
+ * Service provider of the solvers computing in arbitrary precision, which live in the optional {@code qe-precise}
+ * module, so that {@code qe-core} has no runtime dependencies. Provider is discovered with
+ * {@link java.util.ServiceLoader} by the {@link QuadraticEquationSolverFactory} only when such a solver is needed for
+ * the first time, hence applications using double precision solvers only never load arbitrary precision arithmetic.
+ */
+public interface PreciseSolverProvider {
+    /**
+     * @return solver of the {@link QuadraticEquationSolver.Type#SIMPLE_AP} type.
+     */
+    QuadraticEquationSolver getSimpleSolver();
+
+    /**
+     * @return solver computing Citardauq formulae in arbitrary precision, which is the last resort of the
+     *         {@link QuadraticEquationSolver.Type#ADAPTIVE} solver.
+     */
+    QuadraticEquationSolver getCitardauqSolver();
+}
@@ -0,0 +1,14 @@
+package net.priimak.qe;
+
+/**
+ * Read only view of parameters a, b and c of the quadratic equation ax^2 + bx + c = 0. It is implemented both by
+ * {@link QuadraticEquation} and by the flyweight {@link EquationBlock.Cursor}, so that code which only reads
+ * parameters serves equations of a block without materializing them as objects.
+ */
+public interface QuadraticCoefficients {
+    double getA();
+
+    double getB();
+
+    double getC();
+}
@@ -0,0 +1,266 @@
+package net.priimak.qe;
+
+import net.priimak.numeric.RootSet;
+
+/**
+ * Immutable class that represent quadratic equation ax^2 + bx + c = 0
+ */
+public final class QuadraticEquation implements QuadraticCoefficients {
+    /**
+     * @deprecated {@link #deduceError(QuadraticEquation, double[])} no longer walks away from the root one step at a
+     *             time and is not limited in number of iterations.
+     */
+    @Deprecated
+    public static final int MAX_SEEK_ERROR_ITERATIONS = 10000;
+    private static long SIGN_MASK = 0x8000000000000000L;
+    private static long EXPONENT_MASK = 0x7ff0000000000000L;
+    private static long MANTISSA_MASK = 0x000fffffffffffffL;
+    private static final long MAX_ORDINAL = Double.doubleToRawLongBits(Double.MAX_VALUE);
+
+    private final double a;
+    private final double b;
+    private final double c;
+
+    /**
+     * Create instance of {@code QuadraticEquation} where parameters a, b and c represent parameters
+     * in the equation ax^2 + bx + c = 0
+     */
+    public QuadraticEquation(double a, double b, double c) {
+        this.a = a;
+        this.b = b;
+        this.c = c;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s * x^2 + %s * x + %s", a, b, c);
+    }
+
+    @Override
+    public double getA() {
+        return a;
+    }
+
+    @Override
+    public double getB() {
+        return b;
+    }
+
+    @Override
+    public double getC() {
+        return c;
+    }
+
+    public static long exponent(double number) {
+        return ((Double.doubleToLongBits(number) & EXPONENT_MASK) >> 52);
+    }
+
+    /**
+     * Simplify quadratic equation removing common exponents where possible.
+     *
+     * @param equation equation to simplify
+     * @return simplified equation.
+     */
+    public static QuadraticEquation simplify(QuadraticEquation equation) {
+        double div = simplificationDivisor(equation.getA(), equation.getB(), equation.getC());
+        if (div == 1.0D) {
+            return equation;
+        } else {
+            return new QuadraticEquation(equation.getA() / div, equation.getB() / div, equation.getC() / div);
+        }
+    }
+
+    /**
+     * Compute power of two by which parameters a, b and c should be divided to remove their common exponent. This is
+     * the allocation free counterpart of {@link #simplify(QuadraticEquation)} used by the double precision solvers.
+     *
+     * @return divisor to apply to all three parameters or 1 if equation should not be simplified.
+     */
+    static double simplificationDivisor(double a, double b, double c) {
+        long minExp = Math.min(Math.min(exponent(a), exponent(b)), exponent(c)) - 1023;
+        double div = Math.scalb(1.0D, (int) minExp);
+        if (minExp < 0
+            && (exponent(a / div) > 1044
+                || exponent(b / div) > 1044
+                || exponent(c / div) > 1044)) {
+            // keep original as we might reduce precision of the solution by such "simplification"
+            SolverMetrics.increment(SolverMetrics.Counter.SIMPLIFY_FALLBACK);
+            return 1.0D;
+        } else {
+            return div;
+        }
+    }
+
+    /**
+     * Deduce error of the solution of the quadratic equation as distance from each root to the nearest double at
+     * which value of the quadratic formulae changes its sign. Distance is found by exponential and then binary search
+     * over number of ulps away from the root. Each of them takes at most 64 steps, since distance in ulps fits into 64
+     * bits, and either of them may run on both sides of the root, so it takes at most about 256 evaluations of the
+     * formulae per root.
+     *
+     * @param equation equation or any other view of its parameters, such as {@link EquationBlock.Cursor}.
+     * @param roots up to two roots of the equation as returned by {@link QuadraticEquationSolver}.
+     * @return roots paired with their errors.
+     * @throws IllegalArgumentException if there are more than two roots.
+     */
+    public static RootSet deduceErrors(QuadraticCoefficients equation, double[] roots) {
+        switch (roots.length) {
+            case 0:
+                return RootSet.EMPTY;
+            case 1:
+                return RootSet.of(roots[0], errorOf(equation, roots[0]));
+            case 2:
+                return RootSet.of(roots[0], errorOf(equation, roots[0]), roots[1], errorOf(equation, roots[1]));
+            default:
+                throw new IllegalArgumentException("Quadratic equation can not have more than two roots");
+        }
+    }
+
+    /**
+     * Same as {@link #deduceErrors(QuadraticCoefficients, double[])} but packs roots and errors into one array.
+     *
+     * @return array where first half contains roots and second half their errors.
+     * @deprecated use {@link #deduceErrors(QuadraticCoefficients, double[])}, which pairs every root with its error.
+     */
+    @Deprecated
+    public static double[] deduceError(QuadraticEquation equation, double[] roots) {
+        if (roots.length == 0) {
+            return roots;
+        } else {
+            double[] result = new double[2 * roots.length];
+            for(int i = 0; i < roots.length; i++) {
+                result[i] = roots[i];
+            }
+            int index = roots.length;
+            for(double root : roots) {
+                result[index++] = errorOf(equation, root);
+            }
+            return result;
+        }
+    }
+
+    private static double errorOf(QuadraticCoefficients equation, double root) {
+        return QuadraticEquationEvaluator.compute(equation, root) == 0 ? 0 : findErrorForRoot(equation, root);
+    }
+
+    private static double findErrorForRoot(QuadraticCoefficients equation, double root) {
+        double signAtRoot = Math.signum(QuadraticEquationEvaluator.compute(equation, root));
+        if (signAtRoot == 0) {
+            return 0;
+        }
+
+        if (!changesSign(equation)) {
+            // root is only approximation of the vertex of parabola touching or not reaching 0
+            double vertex = - (equation.getB() / equation.getA()) / 2;
+            return Double.isFinite(vertex) ? Math.max(Math.abs(root - vertex), Math.ulp(root)) : Math.ulp(root);
+        }
+
+        long rootOrdinal = ordinal(root);
+        long previousLeft = rootOrdinal;
+        long previousRight = rootOrdinal;
+        for (long step = 1; ; step = step < Long.MAX_VALUE / 2 ? 2 * step : Long.MAX_VALUE) {
+            long leftOrdinal = -moveRight(-rootOrdinal, step);
+            long rightOrdinal = moveRight(rootOrdinal, step);
+            boolean leftCrossed = signChanged(equation, leftOrdinal, signAtRoot);
+            boolean rightCrossed = signChanged(equation, rightOrdinal, signAtRoot);
+            if (leftCrossed || rightCrossed) {
+                // sign change is between previous and current probes, left side wins ties
+                double leftError = leftCrossed ?
+                    root - fromOrdinal(findSignChange(equation, previousLeft, leftOrdinal, signAtRoot)) :
+                    Double.POSITIVE_INFINITY;
+                double rightError = rightCrossed ?
+                    fromOrdinal(findSignChange(equation, previousRight, rightOrdinal, signAtRoot)) - root :
+                    Double.POSITIVE_INFINITY;
+                return Math.min(leftError, rightError);
+            } else if (leftOrdinal == -MAX_ORDINAL && rightOrdinal == MAX_ORDINAL) {
+                // sign change is beyond the range of double
+                return Double.POSITIVE_INFINITY;
+            }
+            previousLeft = leftOrdinal;
+            previousRight = rightOrdinal;
+        }
+    }
+
+    /**
+     * @return false if quadratic formulae certainly does not change its sign anywhere, i.e. if exact discriminant is
+     *         not positive, and true otherwise.
+     */
+    private static boolean changesSign(QuadraticCoefficients equation) {
+        double a = equation.getA();
+        double b = equation.getB();
+        double c = equation.getC();
+        if (a == 0) {
+            return b != 0;
+        }
+        // b^2 - 4ac
+        double bSquare = b * b;
+        double minusFourAC = -4 * a * c;
+        if (!ExactArithmetic.isProductExact(b, b, bSquare) || !ExactArithmetic.isProductExact(-4 * a, c, minusFourAC)) {
+            return true;
+        }
+        double[] terms = {
+            ExactArithmetic.twoProductError(b, b, bSquare),
+            ExactArithmetic.twoProductError(-4 * a, c, minusFourAC),
+            bSquare,
+            minusFourAC
+        };
+        return !(ExactArithmetic.sum(terms, terms.length) <= 0);
+    }
+
+    /**
+     * Binary search for the ordinal closest to {@code same} at which formulae changes its sign, given that it
+     * changes sign at the {@code changed} ordinal and does not change at {@code same}.
+     */
+    private static long findSignChange(QuadraticCoefficients equation, long same, long changed, double signAtRoot) {
+        while (same + 1 < changed || changed + 1 < same) {
+            // average without overflow
+            long middle = (same & changed) + ((same ^ changed) >> 1);
+            if (signChanged(equation, middle, signAtRoot)) {
+                changed = middle;
+            } else {
+                same = middle;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * @return ordinal that is given number of steps to the right of given one or {@link #MAX_ORDINAL} if that is
+     *         beyond the largest finite double. Steps of {@link Long#MAX_VALUE} always end at {@link #MAX_ORDINAL}.
+     */
+    private static long moveRight(long ordinal, long steps) {
+        if (steps == Long.MAX_VALUE) {
+            return MAX_ORDINAL;
+        } else if (ordinal < 0) {
+            return Math.min(ordinal + steps, MAX_ORDINAL);
+        } else {
+            return steps >= MAX_ORDINAL - ordinal ? MAX_ORDINAL : ordinal + steps;
+        }
+    }
+
+    private static boolean signChanged(QuadraticCoefficients equation, long ordinal, double signAtRoot) {
+        return Math.signum(QuadraticEquationEvaluator.compute(equation, fromOrdinal(ordinal))) != signAtRoot;
+    }
+
+    /**
+     * Map double onto the long such that adjacent doubles map onto adjacent longs and order is preserved.
+     * Both positive and negative zero map onto 0.
+     */
+    static long ordinal(double number) {
+        long bits = Double.doubleToRawLongBits(number);
+        return bits < 0 ? -(bits & ~SIGN_MASK) : bits;
+    }
+
+    /**
+     * Inverse of the {@link #ordinal(double)}.
+     */
+    static double fromOrdinal(long ordinal) {
+        return ordinal < 0 ? -Double.longBitsToDouble(-ordinal) : Double.longBitsToDouble(ordinal);
+    }
+
+    public static double getDelta(double number) {
+        long exp = Double.doubleToLongBits(number) & EXPONENT_MASK;
+        double nextNearest = Double.longBitsToDouble(exp | 0x0000000000000001L);
+        return nextNearest - Double.longBitsToDouble(exp);
+    }
+}
@@ -0,0 +1,189 @@
+package net.priimak.qe;
+
+import java.math.BigDecimal;
+
+/**
+ * Utility class that contains evaluation functions that operate on the {@link QuadraticEquation} or on any other
+ * {@link QuadraticCoefficients}, such as {@link EquationBlock.Cursor}.
+ */
+public final class QuadraticEquationEvaluator {
+    /**
+     * Number of terms in the exact expansion of ax^2 + bx + c.
+     */
+    static final int EXACT_TERMS = 7;
+
+    private QuadraticEquationEvaluator() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Compute value of given quadratic formulae y = ax^2 + bx + c for a given value of x.
+     *
+     * @param equation equation/formulae to compute value of.
+     * @param x x value for which evaluation quadratic formulae.
+     * @return value of the quadratic formulae computed at point {@code x} correctly rounded to nearest. It is 0 only
+     *         if exact value is 0 and otherwise has sign of the exact value, so values too small to be represented
+     *         are rounded to {@code Double.MIN_VALUE} of that sign rather than to 0.
+     */
+    public static double compute(QuadraticCoefficients equation, double x) {
+        double value = computeExactly(equation.getA(), equation.getB(), equation.getC(), x, new double[EXACT_TERMS]);
+        if (Double.isNaN(value)) {
+            // exponents are out of range of the error free transformations
+            return computeWithBigDecimal(equation.getA(), equation.getB(), equation.getC(), x);
+        } else {
+            return value;
+        }
+    }
+
+    /**
+     * Tabulate given quadratic formulae over points {@code x[offset, offset + length)} writing values into the same
+     * range of {@code y}, which may be {@code x} itself. Plain evaluation uses Horner scheme (ax + b)x + c in a loop
+     * the JIT compiles into SIMD instructions and has absolute error of few ulps of |ax^2| + |bx| + |c|, so values
+     * near roots lose all relative accuracy. Compensated evaluation is correctly rounded as
+     * {@link #compute(QuadraticCoefficients, double)} is, but several times slower.
+     *
+     * @param equation equation/formulae to compute value of.
+     * @param x points at which to evaluate quadratic formulae.
+     * @param offset index of the first point.
+     * @param length number of points.
+     * @param y buffer for values of the quadratic formulae.
+     * @param compensated whether to evaluate using error free transformations.
+     * @throws IndexOutOfBoundsException if range is not valid for any of the buffers.
+     */
+    public static void compute(QuadraticCoefficients equation, double[] x, int offset, int length, double[] y,
+                               boolean compensated) {
+        checkRange(offset, length, x.length, y.length);
+        double a = equation.getA();
+        double b = equation.getB();
+        double c = equation.getC();
+        if (compensated) {
+            double[] scratch = new double[EXACT_TERMS];
+            for (int i = offset; i < offset + length; i++) {
+                y[i] = computeCompensated(a, b, c, x[i], scratch);
+            }
+        } else {
+            for (int i = offset; i < offset + length; i++) {
+                y[i] = (a * x[i] + b) * x[i] + c;
+            }
+        }
+    }
+
+    /**
+     * Evaluate every quadratic formulae a[i]x^2 + b[i]x + c[i] at its own point {@code x[i]} for i in range
+     * [offset, offset + length), which typically checks residuals of roots computed by a batch solver. Accuracy of
+     * plain and compensated evaluation is that of the
+     * {@link #compute(QuadraticCoefficients, double[], int, int, double[], boolean)}.
+     *
+     * @param x points at which to evaluate quadratic formulae, such as {@code root1} filled by a batch solver.
+     * @param y buffer for values of the quadratic formulae, which may be {@code x} itself.
+     * @param compensated whether to evaluate using error free transformations.
+     * @throws IndexOutOfBoundsException if range is not valid for any of the buffers.
+     */
+    public static void compute(double[] a, double[] b, double[] c, double[] x, int offset, int length, double[] y,
+                               boolean compensated) {
+        checkRange(offset, length, Math.min(Math.min(a.length, b.length), Math.min(c.length, x.length)), y.length);
+        if (compensated) {
+            double[] scratch = new double[EXACT_TERMS];
+            for (int i = offset; i < offset + length; i++) {
+                y[i] = computeCompensated(a[i], b[i], c[i], x[i], scratch);
+            }
+        } else {
+            for (int i = offset; i < offset + length; i++) {
+                y[i] = (a[i] * x[i] + b[i]) * x[i] + c[i];
+            }
+        }
+    }
+
+    /**
+     * Compute value of ax^2 + bx + c using error free transformations, which is exact up to final rounding, without
+     * resorting to arbitrary precision arithmetic.
+     *
+     * @param scratch buffer of size at least {@link #EXACT_TERMS} used for intermediate computations.
+     * @return correctly rounded value of the quadratic formulae or NaN if parameters are not finite
+     *         or their exponents are out of range where error free transformations are exact.
+     */
+    static double computeExactly(double a, double b, double c, double x, double[] scratch) {
+        if (!Double.isFinite(a) || !Double.isFinite(b) || !Double.isFinite(c) || !Double.isFinite(x)) {
+            return Double.NaN;
+        }
+        // x^2 = square + squareError
+        double square = x * x;
+        double squareError = ExactArithmetic.twoProductError(x, x, square);
+        double aSquare = a * square;
+        double aSquareError = a * squareError;
+        double bx = b * x;
+        if (!ExactArithmetic.isProductExact(x, x, square)
+            || !ExactArithmetic.isProductExact(a, square, aSquare)
+            || !ExactArithmetic.isProductExact(a, squareError, aSquareError)
+            || !ExactArithmetic.isProductExact(b, x, bx)) {
+            return Double.NaN;
+        }
+
+        double[] terms = scratch;
+        terms[0] = c;
+        terms[1] = ExactArithmetic.twoProductError(a, squareError, aSquareError);
+        terms[2] = ExactArithmetic.twoProductError(a, square, aSquare);
+        terms[3] = ExactArithmetic.twoProductError(b, x, bx);
+        terms[4] = aSquareError;
+        terms[5] = bx;
+        terms[6] = aSquare;
+        return ExactArithmetic.sum(terms, EXACT_TERMS);
+    }
+
+    /**
+     * Same as {@link #compute(QuadraticCoefficients, double)} but reusing scratch buffer of the caller. Plain Horner
+     * scheme is used for non-finite parameters or points, where there is nothing to compensate.
+     */
+    private static double computeCompensated(double a, double b, double c, double x, double[] scratch) {
+        double value = computeExactly(a, b, c, x, scratch);
+        if (!Double.isNaN(value)) {
+            return value;
+        } else if (Double.isFinite(a) && Double.isFinite(b) && Double.isFinite(c) && Double.isFinite(x)) {
+            return computeWithBigDecimal(a, b, c, x);
+        } else {
+            return (a * x + b) * x + c;
+        }
+    }
+
+    private static void checkRange(int offset, int length, int inputLength, int outputLength) {
+        int minLength = Math.min(inputLength, outputLength);
+        if (offset < 0 || length < 0 || offset > minLength - length) {
+            throw new IndexOutOfBoundsException(
+                String.format("Range [%s, %s) is out of bounds of buffers of length %s", offset, offset + length, minLength)
+            );
+        }
+    }
+
+    /**
+     * @return sign of the exact discriminant b^2 - 4ac of the equation with finite parameters.
+     */
+    static int discriminantSign(double a, double b, double c) {
+        double bSquare = b * b;
+        double ac = 4 * a * c;
+        if (ExactArithmetic.isProductExact(b, b, bSquare) && ExactArithmetic.isProductExact(4 * a, c, ac)) {
+            double[] terms = {
+                ExactArithmetic.twoProductError(b, b, bSquare), bSquare,
+                -ExactArithmetic.twoProductError(4 * a, c, ac), -ac
+            };
+            double discriminant = ExactArithmetic.sum(terms, terms.length);
+            if (!Double.isNaN(discriminant)) {
+                return (int) Math.signum(discriminant);
+            }
+        }
+        BigDecimal bDecimal = new BigDecimal(b);
+        return bDecimal.multiply(bDecimal)
+            .subtract(new BigDecimal(a).multiply(new BigDecimal(c)).multiply(BigDecimal.valueOf(4))).signum();
+    }
+
+    /**
+     * Exact evaluation of ax^2 + bx + c in decimal arithmetic, which is slow but has no range restrictions.
+     */
+    private static double computeWithBigDecimal(double a, double b, double c, double x) {
+        BigDecimal xDecimal = new BigDecimal(x);
+        BigDecimal value = new BigDecimal(a).multiply(xDecimal).add(new BigDecimal(b)).multiply(xDecimal)
+            .add(new BigDecimal(c));
+        double result = value.doubleValue();
+        // do not let underflow lose sign of the exact value
+        return result == 0 ? value.signum() * Double.MIN_VALUE : result;
+    }
+}
@@ -0,0 +1,161 @@
+package net.priimak.qe;
+
+/**
+ * Represents function/solver that takes {@link QuadraticEquation} and computes its roots. All solvers implementing
+ * this interface must be immutable and idempotent.
+ */
+@FunctionalInterface
+public interface QuadraticEquationSolver {
+    /**
+     * Types of quadratic equation solvers that can be produced by the {@link QuadraticEquationSolverFactory}.
+     */
+    enum Type {
+        /**
+         * Type of solution that relies on the fact that x_1 * x_2 = c / a, which it uses to compute of root of
+         * quadratic equation avoiding catastrophic cancelation.
+         */
+        CITARDAUQ,
+
+        /**
+         * Simple method relying on the well known formulae x_{1,2} = \frac{-b \pm \sqrt{b^2-4ac}}{2a}
+         */
+        SIMPLE,
+
+        /**
+         * Same method is as {@link #SIMPLE} but uses Apfloat library. Available only if {@code qe-precise} module
+         * is on the class path.
+         */
+        SIMPLE_AP,
+
+        /**
+         * Same method as {@link #CITARDAUQ}, but result is certified with an a-posteriori error bound computed from
+         * the condition number of the discriminant, which takes exponent spread of the parameters into account. If
+         * roots cannot be certified to the requested relative error, which by default is 1.0E-14, equation is solved
+         * again with double-double arithmetic and, if that is not sufficient, with Apfloat library. Available only if
+         * {@code qe-precise} module is on the class path, otherwise solver of the last resort must be given to
+         * {@link QuadraticEquationSolverFactory#getAdaptiveSolver(double, QuadraticEquationSolver)} explicitly.
+         * Well-conditioned equations are solved as fast as with {@link #CITARDAUQ}.
+         */
+        ADAPTIVE,
+
+        /**
+         * Same method as {@link #CITARDAUQ}, but instead of simplifying equation every parameter is split into
+         * mantissa and exponent, and discriminant and roots are computed with exponents tracked separately. Hence
+         * solution overflows only if root itself is not representable as double, no matter how far apart exponents of
+         * the parameters are.
+         */
+        EXTENDED_RANGE
+    };
+
+    /**
+     * Solves quadratic equation ax^2 + bx + c = 0.
+     *
+     * @param equation quadratic equation to solve.
+     * @return arrays of doubles of size 0 if no real solutions exists and size 1 or 2 containing roots of the equation.
+     * @throws OutOfNumericRange if computation of the roots resulted in the numeric overflow.
+     */
+    double[] solve(QuadraticEquation equation) throws OutOfNumericRange;
+
+    /**
+     * Solves quadratic equation ax^2 + bx + c = 0 storing solution into the given reusable holder. Unlike
+     * {@link #solve(QuadraticEquation)} it never throws {@link OutOfNumericRange}, status of the result is set to
+     * {@link SolutionStatus#OVERFLOW} instead, which makes it the right choice for inputs that overflow often.
+     * <p>
+     * Default implementation solves equation as a batch of one using single slot buffers of the holder.
+     *
+     * @param result holder of the solution, previous content of which is overwritten.
+     */
+    default void solve(double a, double b, double c, RootResult result) {
+        result.a[0] = a;
+        result.b[0] = b;
+        result.c[0] = c;
+        solve(result.a, result.b, result.c, 0, 1, result.root1, result.root2, result.rootCount, result.status);
+    }
+
+    /**
+     * Same as {@link #solve(double, double, double, RootResult)} for the parameters of the given equation.
+     */
+    default void solve(QuadraticEquation equation, RootResult result) {
+        solve(equation.getA(), equation.getB(), equation.getC(), result);
+    }
+
+    /**
+     * Solves quadratic equations a[i]x^2 + b[i]x + c[i] = 0 for every i in range [offset, offset + length) writing
+     * results into the caller owned buffers at the same index i. If equation has only one root then
+     * {@code root2[i]} is set to NaN, if it has no roots or solution overflowed then both roots are set to NaN.
+     * Instead of throwing {@link OutOfNumericRange} status of the equation is set to {@link SolutionStatus#OVERFLOW}.
+     * <p>
+     * Default implementation creates {@link QuadraticEquation} for every equation and delegates to
+     * {@link #solve(QuadraticEquation)}, solvers that can do better, such as {@link Type#CITARDAUQ} and
+     * {@link Type#SIMPLE}, override it and do not allocate per equation.
+     *
+     * @param a buffer of parameters a.
+     * @param b buffer of parameters b.
+     * @param c buffer of parameters c.
+     * @param offset index of the first equation to solve.
+     * @param length number of equations to solve.
+     * @param root1 buffer for the first roots.
+     * @param root2 buffer for the second roots.
+     * @param rootCount buffer for the number of roots, 0, 1 or 2.
+     * @param status buffer for the {@link SolutionStatus#code() status codes}.
+     * @throws IndexOutOfBoundsException if any of the buffers is shorter than {@code offset + length}.
+     */
+    default void solve(double[] a, double[] b, double[] c, int offset, int length,
+                       double[] root1, double[] root2, int[] rootCount, byte[] status) {
+        QuadraticEquationSolverFactory.checkBatchRange(offset, length, a, b, c, root1, root2, rootCount, status);
+        for (int i = offset; i < offset + length; i++) {
+            try {
+                double[] roots = solve(new QuadraticEquation(a[i], b[i], c[i]));
+                QuadraticEquationSolverFactory.storeRoots(
+                    i, roots.length,
+                    roots.length > 0 ? roots[0] : Double.NaN,
+                    roots.length > 1 ? roots[1] : Double.NaN,
+                    root1, root2, rootCount, status
+                );
+            } catch (OutOfNumericRange outOfNumericRange) {
+                QuadraticEquationSolverFactory.storeOverflowStatus(i, root1, root2, rootCount, status);
+            }
+        }
+    }
+
+    /**
+     * Same as {@link #solve(double[], double[], double[], int, int, double[], double[], int[], byte[])}, but equations
+     * with negative discriminant are solved in complex numbers. Their roots {@code real1[i] + imaginary[i] * i} and
+     * {@code real2[i] - imaginary[i] * i}, where {@code real1[i] == real2[i]} and {@code imaginary[i] > 0}, are
+     * stored with {@code rootCount[i]} set to 2 and status set to {@link SolutionStatus#COMPLEX_ROOTS}. Imaginary part
+     * of real roots is 0 and it is NaN if there are no roots or solution overflowed.
+     * <p>
+     * Complex roots are computed in double precision by solvers of all types, after parameters are scaled the same
+     * way as by {@link QuadraticEquation#simplify(QuadraticEquation)}. Discriminant is computed exactly unless
+     * products of parameters are out of range of error free transformations, in which case imaginary part is computed
+     * as {@code |x| * sqrt((1 - t)(1 + t))}, where {@code |x| = sqrt(c / a)} and {@code t = re / |x|}, if c / a > 0
+     * and {@code |t| < 1}, and roots are real otherwise. Neither overflows unless roots are not representable as
+     * doubles. Equations found to have no real roots or a double
+     * root by {@link #solve(double[], double[], double[], int, int, double[], double[], int[], byte[])} are solved
+     * anew by sign of that discriminant, so two real roots next to each other are not mistaken for either.
+     *
+     * @param real1 buffer for the real parts of the first roots.
+     * @param real2 buffer for the real parts of the second roots.
+     * @param imaginary buffer for the imaginary parts of the first roots, imaginary parts of the second roots are of
+     *        the opposite sign.
+     * @throws IndexOutOfBoundsException if any of the buffers is shorter than {@code offset + length}.
+     */
+    default void solveComplex(double[] a, double[] b, double[] c, int offset, int length,
+                              double[] real1, double[] real2, double[] imaginary, int[] rootCount, byte[] status) {
+        QuadraticEquationSolverFactory.checkBatchRange(offset, length, a, b, c, real1, real2, rootCount, status);
+        QuadraticEquationSolverFactory.checkBatchRange(offset, length, a, b, c, imaginary, imaginary, rootCount, status);
+        solve(a, b, c, offset, length, real1, real2, rootCount, status);
+        double[] scratch = new double[QuadraticEquationSolverFactory.DISCRIMINANT_TERMS];
+        for (int i = offset; i < offset + length; i++) {
+            if ((status[i] == SolutionStatus.NO_REAL_ROOTS.code() && a[i] != 0)
+                || (status[i] == SolutionStatus.OK.code() && rootCount[i] == 1 && a[i] != 0 && b[i] != 0 && c[i] != 0)) {
+                // no real roots or double root may be an artefact of rounding in discriminant
+                QuadraticEquationSolverFactory.storeComplexRoots(
+                    a[i], b[i], c[i], i, real1, real2, imaginary, rootCount, status, scratch
+                );
+            } else {
+                imaginary[i] = rootCount[i] > 0 ? 0 : Double.NaN;
+            }
+        }
+    }
+}
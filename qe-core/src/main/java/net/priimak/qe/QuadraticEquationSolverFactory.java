@@ -0,0 +1,419 @@
+package net.priimak.qe;
+
+import java.util.Iterator;
+import java.util.ServiceLoader;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ *
+ */
+public class QuadraticEquationSolverFactory {
+    static final double[] NO_SOLUTIONS = new double[0];
+
+    /**
+     * Number of terms in the exact expansion of 4ac - b^2.
+     */
+    static final int DISCRIMINANT_TERMS = 4;
+
+    private QuadraticEquationSolverFactory() {
+        throw new AssertionError();
+    }
+
+    /**
+     * @throws UnsupportedOperationException if solver of the given type is not {@link #isAvailable(
+     *         QuadraticEquationSolver.Type) available}.
+     */
+    public static QuadraticEquationSolver getSolver(QuadraticEquationSolver.Type type) {
+        switch (type) {
+            case SIMPLE:
+                return SimpleQuadraticEquationSolver.INSTANCE;
+            case CITARDAUQ:
+                return CitardauqQuadraticEquationSolver.INSTANCE;
+            case SIMPLE_AP:
+                return requirePreciseSolverProvider(type).getSimpleSolver();
+            case ADAPTIVE:
+                requirePreciseSolverProvider(type);
+                return AdaptiveQuadraticEquationSolver.DEFAULT;
+            case EXTENDED_RANGE:
+                return ExtendedRangeQuadraticEquationSolver.INSTANCE;
+            default:
+                throw new IllegalArgumentException("Unknown quadratic equation solver type");
+        }
+    }
+
+    /**
+     * @return true if solver of the given type can be created, i.e. it never needs arbitrary precision or
+     *         {@code qe-precise} module is on the class path.
+     */
+    public static boolean isAvailable(QuadraticEquationSolver.Type type) {
+        return type != QuadraticEquationSolver.Type.SIMPLE_AP && type != QuadraticEquationSolver.Type.ADAPTIVE
+            || getPreciseSolverProvider() != null;
+    }
+
+    /**
+     * @return provider of the arbitrary precision solvers or null if {@code qe-precise} module is not on the class
+     *         path.
+     */
+    static PreciseSolverProvider getPreciseSolverProvider() {
+        return PreciseSolvers.PROVIDER;
+    }
+
+    /**
+     * @throws UnsupportedOperationException if {@code qe-precise} module is not on the class path.
+     */
+    private static PreciseSolverProvider requirePreciseSolverProvider(QuadraticEquationSolver.Type type) {
+        PreciseSolverProvider provider = getPreciseSolverProvider();
+        if (provider == null) {
+            throw new UnsupportedOperationException(
+                "Solver of the " + type + " type requires qe-precise module on the class path"
+            );
+        }
+        return provider;
+    }
+
+    /**
+     * Get {@link QuadraticEquationSolver.Type#ADAPTIVE} solver that escalates to higher precision unless roots can be
+     * certified to the given relative error.
+     *
+     * @param maxRelativeError maximum relative error of the roots, must be in range (0, 1).
+     * @throws UnsupportedOperationException if {@code qe-precise} module is not on the class path, see
+     *         {@link #getAdaptiveSolver(double, QuadraticEquationSolver)} for adaptive solver without it.
+     */
+    public static QuadraticEquationSolver getAdaptiveSolver(double maxRelativeError) {
+        requirePreciseSolverProvider(QuadraticEquationSolver.Type.ADAPTIVE);
+        return new AdaptiveQuadraticEquationSolver(maxRelativeError);
+    }
+
+    /**
+     * Same as {@link #getAdaptiveSolver(double)} but equations that cannot be certified even in double-double
+     * arithmetic are solved by the given solver of the last resort. Roots of such equations are only as accurate as
+     * that solver makes them, e.g. {@link QuadraticEquationSolver.Type#EXTENDED_RANGE} solver does not certify them at
+     * all, so this is an explicit opt-in for adaptive solving without {@code qe-precise} module.
+     *
+     * @param lastResort solver of the last resort.
+     */
+    public static QuadraticEquationSolver getAdaptiveSolver(double maxRelativeError, QuadraticEquationSolver lastResort) {
+        if (lastResort == null) {
+            throw new IllegalArgumentException("Solver of the last resort is required");
+        }
+        return new AdaptiveQuadraticEquationSolver(maxRelativeError, lastResort);
+    }
+
+    /**
+     * Same as {@link #getCachingSolver(QuadraticEquationSolver, SolutionCache)} caching solutions of the solver of
+     * given type in a new cache of the given size.
+     */
+    public static QuadraticEquationSolver getCachingSolver(QuadraticEquationSolver.Type type, int maxSize) {
+        return getCachingSolver(getSolver(type), new SolutionCache<>(maxSize));
+    }
+
+    /**
+     * Get solver that memoizes solutions of another solver, which pays off when the same parameters a, b and c are
+     * solved over and over again by the slow solvers. Statistics of hits and misses are available from the cache.
+     *
+     * @param solver solver to compute solutions on cache misses.
+     * @param cache cache of the solutions, which must not be shared with other solvers.
+     */
+    public static QuadraticEquationSolver getCachingSolver(QuadraticEquationSolver solver, SolutionCache<double[]> cache) {
+        return new CachingQuadraticEquationSolver(solver, cache);
+    }
+
+    /**
+     * Same as {@link #getParallelSolver(QuadraticEquationSolver.Type, ForkJoinPool)} using
+     * {@link ForkJoinPool#commonPool()}.
+     */
+    public static QuadraticEquationSolver getParallelSolver(QuadraticEquationSolver.Type type) {
+        return getParallelSolver(type, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Get solver that solves batches of equations in parallel, splitting them into chunks sized for the given type of
+     * solver and running them on the given pool.
+     *
+     * @param type type of solver to use for every chunk.
+     * @param pool pool to run chunks on.
+     */
+    public static QuadraticEquationSolver getParallelSolver(QuadraticEquationSolver.Type type, ForkJoinPool pool) {
+        return new ParallelQuadraticEquationSolver(type, pool);
+    }
+
+    /**
+     * Same as {@link #getAsyncSolver(QuadraticEquationSolver, int, long, int, Executor)} with default batch size,
+     * delay and queue capacity, solving batches on virtual threads if they are available.
+     */
+    public static AsyncQuadraticEquationSolver getAsyncSolver(QuadraticEquationSolver solver) {
+        return getAsyncSolver(
+            solver,
+            AsyncQuadraticEquationSolver.DEFAULT_MAX_BATCH_SIZE,
+            AsyncQuadraticEquationSolver.DEFAULT_MAX_DELAY_NANOS,
+            AsyncQuadraticEquationSolver.DEFAULT_QUEUE_CAPACITY,
+            null
+        );
+    }
+
+    /**
+     * Get asynchronous solver that coalesces concurrent requests into micro-batches solved by the given solver.
+     *
+     * @param solver solver to solve batches with.
+     * @param maxBatchSize maximum number of equations in one batch.
+     * @param maxDelayNanos maximum time batch waits for more requests after the first one.
+     * @param queueCapacity maximum number of requests waiting to be batched, beyond which callers block.
+     * @param executor executor to solve batches on, or null to use virtual threads if they are available and
+     *        {@link ForkJoinPool#commonPool()} otherwise. Executor given by caller is not shut down on close.
+     */
+    public static AsyncQuadraticEquationSolver getAsyncSolver(QuadraticEquationSolver solver, int maxBatchSize,
+                                                              long maxDelayNanos, int queueCapacity, Executor executor) {
+        return new AsyncQuadraticEquationSolver(solver, maxBatchSize, maxDelayNanos, queueCapacity, executor);
+    }
+
+    /**
+     * Check that number provided as a parameter is finite, i.e. that neither overflow not division by zero took place.
+     *
+     * @param x number to check for been finite
+     * @return that very same number that was passed as an argument
+     * @throws OutOfNumericRange if number is not finite.
+     */
+    static double ensureFiniteNumber(double x) throws OutOfNumericRange {
+        if (!Double.isFinite(x)) {
+            SolverMetrics.increment(SolverMetrics.Counter.OUT_OF_NUMERIC_RANGE);
+            throw new OutOfNumericRange(
+                "Parameters a, b and c are out of range where solution with this precession is possible."
+            );
+        } else {
+            return x;
+        }
+    }
+
+    /**
+     * Handler corner cases in the ax^2 + bx + c = 0 equation where any of the a, b or c parameters are 0.
+     *
+     * @return null if all three of the a, b and c parameters are not 0 otherwise return array of size 0, 1 or 2
+     *         containing real roots of quadratic equation.
+     * @throws OutOfNumericRange if numeric overflow occurred.
+     */
+    static double[] handleCornerCases(QuadraticEquation equation) throws OutOfNumericRange {
+        double a = equation.getA();
+        double b = equation.getB();
+        double c = equation.getC();
+        if (a == 0 || b == 0 || c == 0) {
+            SolverMetrics.increment(SolverMetrics.Counter.CORNER_CASE);
+        }
+        if (a == 0) {
+            if (b == 0) {
+                // c = 0
+                return NO_SOLUTIONS;
+            } else if (c == 0) {
+                // bx = 0
+                return new double[] {0};
+            } else {
+                // bx + c = 0
+                return new double[] {ensureFiniteNumber(- c / b)};
+            }
+        } else if (b == 0) {
+            if (c == 0) {
+                // ax^2 = 0
+                return new double[] {0};
+            } else if ((c > 0 && a > 0) || (c < 0 && a < 0)){
+                return NO_SOLUTIONS;
+            } else {
+                // ax^2 + c = 0, -c/a > 0
+                return new double[] {ensureFiniteNumber(- c / a)};
+            }
+        } else if (c == 0) {
+            // ax^2 + bx = 0
+            return new double[] {0, ensureFiniteNumber( - b / a)};
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Same as {@link #handleCornerCases(QuadraticEquation)} but writes roots into batch buffers at the given index
+     * instead of allocating an array.
+     *
+     * @return true if equation was a corner case and its solution was stored, false otherwise.
+     */
+    static boolean handleCornerCases(double a, double b, double c, int index,
+                                     double[] root1, double[] root2, int[] rootCount, byte[] status) {
+        if (a == 0 || b == 0 || c == 0) {
+            SolverMetrics.increment(SolverMetrics.Counter.CORNER_CASE);
+        }
+        if (a == 0) {
+            if (b == 0) {
+                storeRoots(index, 0, Double.NaN, Double.NaN, root1, root2, rootCount, status);
+            } else if (c == 0) {
+                storeRoots(index, 1, 0, Double.NaN, root1, root2, rootCount, status);
+            } else {
+                storeRoots(index, 1, - c / b, Double.NaN, root1, root2, rootCount, status);
+            }
+            return true;
+        } else if (b == 0) {
+            if (c == 0) {
+                storeRoots(index, 1, 0, Double.NaN, root1, root2, rootCount, status);
+            } else if ((c > 0 && a > 0) || (c < 0 && a < 0)){
+                storeRoots(index, 0, Double.NaN, Double.NaN, root1, root2, rootCount, status);
+            } else {
+                storeRoots(index, 1, - c / a, Double.NaN, root1, root2, rootCount, status);
+            }
+            return true;
+        } else if (c == 0) {
+            storeRoots(index, 2, 0, - b / a, root1, root2, rootCount, status);
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Store roots of the equation into batch buffers at the given index. If any of the roots is not finite then
+     * solution is stored as {@link SolutionStatus#OVERFLOW}.
+     *
+     * @param count number of roots, 0, 1 or 2.
+     */
+    static void storeRoots(int index, int count, double x1, double x2,
+                           double[] root1, double[] root2, int[] rootCount, byte[] status) {
+        if ((count > 0 && !Double.isFinite(x1)) || (count > 1 && !Double.isFinite(x2))) {
+            storeOverflow(index, root1, root2, rootCount, status);
+        } else {
+            root1[index] = x1;
+            root2[index] = x2;
+            rootCount[index] = count;
+            status[index] = count == 0 ? SolutionStatus.NO_REAL_ROOTS.code() : SolutionStatus.OK.code();
+        }
+    }
+
+    /**
+     * Solve equation with negative discriminant, a of which is not 0, in complex numbers and store its roots
+     * re + im * i and re - im * i into batch buffers at the given index. If exact discriminant turns out to be 0,
+     * double root re is stored instead, and if it turns out to be positive, which happens next to double root where
+     * real solver misjudged its sign, or if a and c are of opposite signs, two real roots re - d and re + d, where
+     * d = sqrt(b^2 - 4ac) / 2|a|. See
+     * {@link QuadraticEquationSolver#solveComplex(double[], double[], double[], int, int, double[], double[], double[],
+     * int[], byte[])}.
+     *
+     * @param scratch buffer of size at least {@link #DISCRIMINANT_TERMS} used for intermediate computations.
+     */
+    static void storeComplexRoots(double a, double b, double c, int index, double[] real1, double[] real2,
+                                  double[] imaginary, int[] rootCount, byte[] status, double[] scratch) {
+        double div = QuadraticEquation.simplificationDivisor(a, b, c);
+        a /= div;
+        b /= div;
+        c /= div;
+        double re = - (b / a) / 2;
+        // im is imaginary part of the roots if positive and distance of real roots from re if negative
+        double im;
+        double fourA = 4 * a;
+        double bSquare = b * b;
+        double fourAc = fourA * c;
+        double discriminant = Double.NaN;
+        if (ExactArithmetic.isProductExact(b, b, bSquare) && ExactArithmetic.isProductExact(fourA, c, fourAc)) {
+            // 4ac - b^2 = (4a * c + error) - (b * b + error)
+            scratch[0] = ExactArithmetic.twoProductError(fourA, c, fourAc);
+            scratch[1] = fourAc;
+            scratch[2] = -ExactArithmetic.twoProductError(b, b, bSquare);
+            scratch[3] = -bSquare;
+            discriminant = ExactArithmetic.sum(scratch, DISCRIMINANT_TERMS);
+        }
+        if (!Double.isNaN(discriminant)) {
+            im = Math.copySign(Math.sqrt(Math.abs(discriminant)) / Math.abs(a) / 2, discriminant);
+        } else {
+            // products are out of range, scale by modulus of the roots |x| = sqrt(|c / a|) as hypot does
+            double modulus = Math.sqrt(Math.abs(c)) / Math.sqrt(Math.abs(a));
+            double t = re / modulus;
+            boolean oppositeSigns = Math.signum(a) != Math.signum(c);
+            if (!oppositeSigns && Math.abs(t) < 1) {
+                im = modulus * Math.sqrt((1 - t) * (1 + t));
+            } else {
+                // real roots re -+ d, where d = |x| * sqrt(t^2 + 1) if c / a < 0 and |re| * sqrt(1 - 1 / t^2)
+                // otherwise, neither of which overflows, near root is found from the product of the roots c / a
+                double distance = oppositeSigns
+                    ? modulus * Math.hypot(t, 1)
+                    : Math.abs(re) * Math.sqrt(1 - 1 / (t * t));
+                double far = re + Math.copySign(distance, re);
+                double near = (oppositeSigns ? -modulus : modulus) * (modulus / far);
+                if (!Double.isFinite(far)) {
+                    storeOverflow(index, real1, real2, rootCount, status);
+                    imaginary[index] = Double.NaN;
+                } else if (distance == 0) {
+                    storeRoots(index, 1, re, Double.NaN, real1, real2, rootCount, status);
+                    imaginary[index] = 0;
+                } else {
+                    storeRoots(
+                        index, 2, Math.min(far, near), Math.max(far, near), real1, real2, rootCount, status
+                    );
+                    imaginary[index] = 0;
+                }
+                return;
+            }
+        }
+        if (!Double.isFinite(re) || !Double.isFinite(im)) {
+            storeOverflow(index, real1, real2, rootCount, status);
+            imaginary[index] = Double.NaN;
+        } else if (im == 0) {
+            storeRoots(index, 1, re, Double.NaN, real1, real2, rootCount, status);
+            imaginary[index] = 0;
+        } else if (im < 0) {
+            storeRoots(index, 2, re + im, re - im, real1, real2, rootCount, status);
+            imaginary[index] = 0;
+        } else {
+            real1[index] = re;
+            real2[index] = re;
+            imaginary[index] = im;
+            rootCount[index] = 2;
+            status[index] = SolutionStatus.COMPLEX_ROOTS.code();
+        }
+    }
+
+    /**
+     * Store {@link SolutionStatus#OVERFLOW} solution into batch buffers at the given index and count overflow in
+     * {@link SolverMetrics}.
+     */
+    static void storeOverflow(int index, double[] root1, double[] root2, int[] rootCount, byte[] status) {
+        SolverMetrics.increment(SolverMetrics.Counter.OUT_OF_NUMERIC_RANGE);
+        storeOverflowStatus(index, root1, root2, rootCount, status);
+    }
+
+    /**
+     * Same as {@link #storeOverflow(int, double[], double[], int[], byte[])}, but overflow is not counted. Used to
+     * store {@link OutOfNumericRange}, which is counted where it is thrown.
+     */
+    static void storeOverflowStatus(int index, double[] root1, double[] root2, int[] rootCount, byte[] status) {
+        root1[index] = Double.NaN;
+        root2[index] = Double.NaN;
+        rootCount[index] = 0;
+        status[index] = SolutionStatus.OVERFLOW.code();
+    }
+
+    /**
+     * Check that range [offset, offset + length) is valid for all of the batch buffers.
+     *
+     * @throws IndexOutOfBoundsException if range is not valid for any of the buffers.
+     */
+    static void checkBatchRange(int offset, int length, double[] a, double[] b, double[] c,
+                                double[] root1, double[] root2, int[] rootCount, byte[] status) {
+        int minLength = Math.min(
+            Math.min(Math.min(a.length, b.length), Math.min(c.length, root1.length)),
+            Math.min(Math.min(root2.length, rootCount.length), status.length)
+        );
+        if (offset < 0 || length < 0 || offset > minLength - length) {
+            throw new IndexOutOfBoundsException(
+                String.format("Range [%s, %s) is out of bounds of buffers of length %s", offset, offset + length, minLength)
+            );
+        }
+    }
+
+    /**
+     * Holder of the provider of the arbitrary precision solvers, which is looked up only on first use.
+     */
+    private static final class PreciseSolvers {
+        static final PreciseSolverProvider PROVIDER = load();
+
+        private static PreciseSolverProvider load() {
+            Iterator<PreciseSolverProvider> providers = ServiceLoader.load(
+                PreciseSolverProvider.class, QuadraticEquationSolverFactory.class.getClassLoader()
+            ).iterator();
+            return providers.hasNext() ? providers.next() : null;
+        }
+    }
+}
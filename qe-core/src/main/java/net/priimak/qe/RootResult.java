@@ -0,0 +1,76 @@
+package net.priimak.qe;
+
+import java.util.Arrays;
+
+/**
+ * Reusable mutable holder of the solution of a single quadratic equation, filled in by
+ * {@link QuadraticEquationSolver#solve(double, double, double, RootResult)} which reports overflow by
+ * {@link SolutionStatus#OVERFLOW} instead of throwing {@link OutOfNumericRange}. Holder is not thread safe, every
+ * thread should use its own one.
+ */
+public final class RootResult {
+    // single slot buffers, so that solvers can solve single equation with their batch kernels
+    final double[] a = new double[1];
+    final double[] b = new double[1];
+    final double[] c = new double[1];
+    final double[] root1 = new double[1];
+    final double[] root2 = new double[1];
+    final int[] rootCount = new int[1];
+    final byte[] status = new byte[1];
+
+    public RootResult() {
+        status[0] = SolutionStatus.NO_REAL_ROOTS.code();
+        root1[0] = Double.NaN;
+        root2[0] = Double.NaN;
+    }
+
+    public SolutionStatus getStatus() {
+        return SolutionStatus.fromCode(status[0]);
+    }
+
+    /**
+     * @return number of roots, 0 if there are no real roots or solution overflowed.
+     */
+    public int getRootCount() {
+        return rootCount[0];
+    }
+
+    /**
+     * @return first root or NaN if there are no roots.
+     */
+    public double getRoot1() {
+        return root1[0];
+    }
+
+    /**
+     * @return second root or NaN if there are less than two roots.
+     */
+    public double getRoot2() {
+        return root2[0];
+    }
+
+    /**
+     * @return roots in the same form as returned by {@link QuadraticEquationSolver#solve(QuadraticEquation)}.
+     * @throws OutOfNumericRange if solution overflowed.
+     */
+    public double[] getRoots() throws OutOfNumericRange {
+        if (status[0] == SolutionStatus.OVERFLOW.code()) {
+            throw new OutOfNumericRange(
+                "Parameters a, b and c are out of range where solution with this precession is possible."
+            );
+        }
+        return Arrays.copyOf(new double[] {root1[0], root2[0]}, rootCount[0]);
+    }
+
+    @Override
+    public String toString() {
+        switch (getStatus()) {
+            case OK:
+                return getRootCount() == 1
+                    ? String.format("OK[%s]", root1[0])
+                    : String.format("OK[%s, %s]", root1[0], root2[0]);
+            default:
+                return getStatus().name();
+        }
+    }
+}
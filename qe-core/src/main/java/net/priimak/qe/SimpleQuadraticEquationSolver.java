@@ -0,0 +1,88 @@
+package net.priimak.qe;
+
+enum SimpleQuadraticEquationSolver implements QuadraticEquationSolver {
+    /**
+     * Instance of {@link SimpleQuadraticEquationSolver} that solves quadratic equation using simple formulae.
+     * Before computing root, equation is simplified by passing it through
+     * {@link QuadraticEquation#simplify(QuadraticEquation)}.
+     * See {@link QuadraticEquationSolver.Type#SIMPLE} for more details.
+     */
+    INSTANCE;
+
+    @Override
+    public double[] solve(QuadraticEquation equation) throws OutOfNumericRange {
+        double[] result = QuadraticEquationSolverFactory.handleCornerCases(equation);
+        if (result != null) {
+            return result;
+        } else {
+            // same as QuadraticEquation.simplify(equation) but without creating new equation
+            double div = QuadraticEquation.simplificationDivisor(equation.getA(), equation.getB(), equation.getC());
+            double a = equation.getA() / div;
+            double b = equation.getB() / div;
+            double c = equation.getC() / div;
+
+            // ax^2 + bx + c = 0
+            double discriminant = QuadraticEquationSolverFactory.ensureFiniteNumber(b * b - 4 * a * c);
+            SolverMetrics.countDiscriminant(discriminant);
+            if (discriminant == 0) {
+                // only one solution
+                return new double[] {QuadraticEquationSolverFactory.ensureFiniteNumber( - ( b / a )/ 2)};
+            } else if (discriminant < 0){
+                return QuadraticEquationSolverFactory.NO_SOLUTIONS;
+            } else {
+                // two solutions
+                return new double[] {
+                    QuadraticEquationSolverFactory.ensureFiniteNumber((-b + Math.sqrt(discriminant))/a)/2,
+                    QuadraticEquationSolverFactory.ensureFiniteNumber((-b - Math.sqrt(discriminant))/a)/2
+                };
+            }
+        }
+    }
+
+    @Override
+    public void solve(double[] a, double[] b, double[] c, int offset, int length,
+                      double[] root1, double[] root2, int[] rootCount, byte[] status) {
+        QuadraticEquationSolverFactory.checkBatchRange(offset, length, a, b, c, root1, root2, rootCount, status);
+        for (int i = offset; i < offset + length; i++) {
+            solve(a[i], b[i], c[i], i, root1, root2, rootCount, status);
+        }
+    }
+
+    @Override
+    public void solve(double a, double b, double c, RootResult result) {
+        solve(a, b, c, 0, result.root1, result.root2, result.rootCount, result.status);
+    }
+
+    /**
+     * Allocation free counterpart of {@link #solve(QuadraticEquation)} that stores solution into batch buffers at the
+     * given index.
+     */
+    static void solve(double a, double b, double c, int index,
+                      double[] root1, double[] root2, int[] rootCount, byte[] status) {
+        if (QuadraticEquationSolverFactory.handleCornerCases(a, b, c, index, root1, root2, rootCount, status)) {
+            return;
+        }
+        double div = QuadraticEquation.simplificationDivisor(a, b, c);
+        a /= div;
+        b /= div;
+        c /= div;
+
+        // ax^2 + bx + c = 0
+        double discriminant = b * b - 4 * a * c;
+        SolverMetrics.countDiscriminant(discriminant);
+        if (!Double.isFinite(discriminant)) {
+            QuadraticEquationSolverFactory.storeOverflow(index, root1, root2, rootCount, status);
+        } else if (discriminant == 0) {
+            // only one solution
+            QuadraticEquationSolverFactory.storeRoots(index, 1, - ( b / a )/ 2, Double.NaN, root1, root2, rootCount, status);
+        } else if (discriminant < 0){
+            QuadraticEquationSolverFactory.storeRoots(index, 0, Double.NaN, Double.NaN, root1, root2, rootCount, status);
+        } else {
+            // two solutions
+            QuadraticEquationSolverFactory.storeRoots(
+                index, 2, (-b + Math.sqrt(discriminant)) / a / 2, (-b - Math.sqrt(discriminant)) / a / 2,
+                root1, root2, rootCount, status
+            );
+        }
+    }
+}
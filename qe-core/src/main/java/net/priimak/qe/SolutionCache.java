@@ -0,0 +1,275 @@
+package net.priimak.qe;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Size-bounded cache of solutions of quadratic equations keyed by raw bits, as returned by
+ * {@link Double#doubleToLongBits(double)}, of the parameters a, b and c, so that neither boxing nor
+ * {@link QuadraticEquation} is needed to look solution up. Cache is split into independently locked stripes, each of
+ * which evicts its least recently used solutions once it holds more than its share of the maximum size.
+ * <p>
+ * Solutions are computed outside of the locks, so concurrent misses on the same parameters may compute the same
+ * solution more than once. Overflows are cached as well and reported by throwing new {@link OutOfNumericRange}
+ * without stack trace.
+ *
+ * @param <V> type of the cached solutions, which must be immutable or never modified by the callers.
+ */
+public final class SolutionCache<V> {
+    /**
+     * Computation of the solution invoked on cache miss.
+     */
+    @FunctionalInterface
+    public interface Computation<V> {
+        V compute() throws OutOfNumericRange;
+    }
+
+    /**
+     * Stands for the cached {@link OutOfNumericRange} outcome.
+     */
+    private static final Object OVERFLOW = new Object();
+
+    private static final int MAX_STRIPES = 1 << 16;
+
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Create cache with number of stripes chosen from the number of available processors.
+     *
+     * @param maxSize maximum number of cached solutions.
+     */
+    public SolutionCache(int maxSize) {
+        this(maxSize, 4 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param maxSize maximum number of cached solutions.
+     * @param concurrencyLevel expected number of concurrently accessing threads, rounded up to the power of two and
+     *        limited such that every stripe can hold at least one solution.
+     */
+    public SolutionCache(int maxSize, int concurrencyLevel) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Maximum size of cache must be positive");
+        } else if (concurrencyLevel <= 0) {
+            throw new IllegalArgumentException("Concurrency level must be positive");
+        }
+        int level = Math.min(Math.min(maxSize, concurrencyLevel), MAX_STRIPES);
+        int stripeCount = Integer.highestOneBit(level);
+        if (stripeCount < level && stripeCount * 2 <= maxSize) {
+            stripeCount *= 2;
+        }
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            // first stripes take remainder of the maximum size
+            stripes[i] = new Stripe(maxSize / stripeCount + (i < maxSize % stripeCount ? 1 : 0), evictions);
+        }
+        this.stripeMask = stripeCount - 1;
+    }
+
+    /**
+     * Get solution of the equation ax^2 + bx + c = 0 computing and caching it on miss.
+     *
+     * @param computation computes solution if it is not cached.
+     * @throws OutOfNumericRange if computation of the solution did or previously had resulted in the overflow.
+     */
+    public V get(double a, double b, double c, Computation<? extends V> computation) throws OutOfNumericRange {
+        return get(a, b, c, 0, computation);
+    }
+
+    /**
+     * Same as {@link #get(double, double, double, Computation)} for the solutions that also depend on some extra
+     * parameter, such as maximum relative error of the roots, which is then compared by bits as well.
+     */
+    public V get(double a, double b, double c, double parameter, Computation<? extends V> computation)
+        throws OutOfNumericRange
+    {
+        Object solution = lookup(a, b, c, parameter, computation, null);
+        if (solution == OVERFLOW) {
+            throw new OutOfNumericRange(
+                "Parameters a, b and c are out of range where solution with this precession is possible.", false
+            );
+        }
+        @SuppressWarnings("unchecked")
+        V value = (V) solution;
+        return value;
+    }
+
+    /**
+     * Same as {@link #get(double, double, double, Computation)}, but overflow is reported by returning the given
+     * marker rather than by throwing {@link OutOfNumericRange}, which is what batch solvers need. Computation may
+     * return that marker as well, it is cached the same way as thrown {@link OutOfNumericRange}.
+     *
+     * @param overflow marker of the overflow compared by identity.
+     */
+    V getOrOverflow(double a, double b, double c, Computation<? extends V> computation, V overflow) {
+        Object solution = lookup(a, b, c, 0, computation, overflow);
+        if (solution == OVERFLOW) {
+            return overflow;
+        }
+        @SuppressWarnings("unchecked")
+        V value = (V) solution;
+        return value;
+    }
+
+    /**
+     * @param overflow value returned by computation in case of overflow or null.
+     * @return cached solution or {@link #OVERFLOW}.
+     */
+    private Object lookup(double a, double b, double c, double parameter, Computation<? extends V> computation,
+                          V overflow) {
+        Key key = new Key(
+            Double.doubleToLongBits(a), Double.doubleToLongBits(b), Double.doubleToLongBits(c),
+            Double.doubleToLongBits(parameter)
+        );
+        Stripe stripe = stripes[key.hash & stripeMask];
+        Object solution;
+        synchronized (stripe) {
+            solution = stripe.get(key);
+        }
+        if (solution != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            try {
+                solution = computation.compute();
+                if (solution == overflow) {
+                    solution = OVERFLOW;
+                }
+            } catch (OutOfNumericRange outOfNumericRange) {
+                solution = OVERFLOW;
+            }
+            synchronized (stripe) {
+                stripe.put(key, solution);
+            }
+        }
+        return solution;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return ratio of hits to the number of lookups or 0 if there were no lookups.
+     */
+    public double getHitRatio() {
+        long hitCount = hits.sum();
+        long lookups = hitCount + misses.sum();
+        return lookups == 0 ? 0 : (double) hitCount / lookups;
+    }
+
+    /**
+     * @return number of cached solutions.
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Remove all cached solutions. Statistics are not reset.
+     */
+    public void clear() {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "SolutionCache[size = %s, hits = %s, misses = %s, evictions = %s]",
+            size(), getHitCount(), getMissCount(), getEvictionCount()
+        );
+    }
+
+    private static final class Key {
+        private final long a;
+        private final long b;
+        private final long c;
+        private final long parameter;
+        private final int hash;
+
+        Key(long a, long b, long c, long parameter) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.parameter = parameter;
+            this.hash = mix(((a * 31 + b) * 31 + c) * 31 + parameter);
+        }
+
+        @Override
+        public boolean equals(Object otherObject) {
+            if (this == otherObject) {
+                return true;
+            } else if (!(otherObject instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) otherObject;
+            return a == other.a && b == other.b && c == other.c && parameter == other.parameter;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        /**
+         * Finalizer of the MurmurHash3, so that all bits of parameters affect choice of the stripe.
+         */
+        private static int mix(long h) {
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            h ^= h >>> 33;
+            h *= 0xc4ceb9fe1a85ec53L;
+            h ^= h >>> 33;
+            return (int) h;
+        }
+    }
+
+    /**
+     * Stripe of the cache in the access order, guarded by its own monitor.
+     */
+    private static final class Stripe extends LinkedHashMap<Key, Object> {
+        private static final long serialVersionUID = -1436379281530734593L;
+
+        private final int capacity;
+        private final LongAdder evictions;
+
+        Stripe(int capacity, LongAdder evictions) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+            if (size() > capacity) {
+                evictions.increment();
+                return true;
+            } else {
+                return false;
+            }
+        }
+    }
+}
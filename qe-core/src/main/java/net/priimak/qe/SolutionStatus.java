@@ -0,0 +1,52 @@
+package net.priimak.qe;
+
+/**
+ * Status of the solution of a single quadratic equation as reported by the batch solving methods of the
+ * {@link QuadraticEquationSolver}. In status buffers it is stored as a {@code byte} obtained from {@link #code()}.
+ */
+public enum SolutionStatus {
+    /**
+     * One or two real roots were found.
+     */
+    OK,
+
+    /**
+     * Equation has no real roots.
+     */
+    NO_REAL_ROOTS,
+
+    /**
+     * Computation of the roots resulted in the numeric overflow. This is the status code counterpart of the
+     * {@link OutOfNumericRange} exception.
+     */
+    OVERFLOW,
+
+    /**
+     * Equation has two complex conjugate roots. Reported only by
+     * {@link QuadraticEquationSolver#solveComplex(double[], double[], double[], int, int, double[], double[], double[],
+     * int[], byte[])}, other methods report {@link #NO_REAL_ROOTS} instead.
+     */
+    COMPLEX_ROOTS;
+
+    private static final SolutionStatus[] VALUES = values();
+
+    /**
+     * @return code of this status as stored in the status buffers.
+     */
+    public byte code() {
+        return (byte) ordinal();
+    }
+
+    /**
+     * @param code status code as stored in the status buffers.
+     * @return status corresponding to the given code.
+     * @throws IllegalArgumentException if code is not known.
+     */
+    public static SolutionStatus fromCode(byte code) {
+        if (code < 0 || code >= VALUES.length) {
+            throw new IllegalArgumentException("Unknown solution status code " + code);
+        } else {
+            return VALUES[code];
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package net.priimak.qe;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * Command line entry point of the {@link FileSolvingPipeline}.
+ *
+ * <pre>
+ *     java net.priimak.qe.SolveFile [--type TYPE] [--block SIZE] [--parallel] [--errors] input output
+ * </pre>
+ */
+public final class SolveFile {
+    private static final String USAGE =
+        "Usage: SolveFile [--type CITARDAUQ|SIMPLE|SIMPLE_AP|ADAPTIVE|EXTENDED_RANGE] [--block SIZE] [--parallel] [--errors] "
+            + "input output";
+
+    private SolveFile() {
+        throw new AssertionError();
+    }
+
+    public static void main(String[] args) throws IOException {
+        QuadraticEquationSolver.Type type = QuadraticEquationSolver.Type.CITARDAUQ;
+        int blockSize = FileSolvingPipeline.DEFAULT_BLOCK_SIZE;
+        boolean parallel = false;
+        boolean withErrors = false;
+        int i = 0;
+        try {
+            for (; i < args.length && args[i].startsWith("--"); i++) {
+                switch (args[i]) {
+                    case "--type":
+                        type = QuadraticEquationSolver.Type.valueOf(args[++i]);
+                        break;
+                    case "--block":
+                        blockSize = Integer.parseInt(args[++i]);
+                        break;
+                    case "--parallel":
+                        parallel = true;
+                        break;
+                    case "--errors":
+                        withErrors = true;
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option " + args[i]);
+                }
+            }
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            usage();
+            return;
+        }
+        if (args.length - i != 2) {
+            usage();
+            return;
+        }
+        QuadraticEquationSolver solver = parallel
+            ? QuadraticEquationSolverFactory.getParallelSolver(type)
+            : QuadraticEquationSolverFactory.getSolver(type);
+        FileSolvingPipeline.Statistics statistics = new FileSolvingPipeline(solver, blockSize, withErrors)
+            .run(Paths.get(args[i]), Paths.get(args[i + 1]));
+        System.out.println(statistics);
+    }
+
+    private static void usage() {
+        System.err.println(USAGE);
+        System.exit(1);
+    }
+}
@@ -0,0 +1,222 @@
+package net.priimak.qe;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Counters of the paths taken by the solvers and histograms of their latencies and numbers of Newton iterations.
+ * Metrics are collected only if JVM is started with {@code -Dnet.priimak.qe.metrics=true}, in which case they are
+ * also exposed through {@link SolverMetricsMXBean} registered under {@link #OBJECT_NAME}. Otherwise all recording
+ * methods are no-ops that JIT removes along with the check of {@link #ENABLED}.
+ * <p>
+ * While metrics are enabled {@link QuadraticEquationSolver.Type#CITARDAUQ} batch solver does not use SIMD kernel,
+ * so that every equation is counted.
+ */
+public final class SolverMetrics {
+    /**
+     * Paths taken by the solvers.
+     */
+    public enum Counter {
+        /**
+         * Equation with any of the parameters a, b or c been 0, handled by the
+         * {@link QuadraticEquationSolverFactory#handleCornerCases(QuadraticEquation)}.
+         */
+        CORNER_CASE,
+
+        /**
+         * {@link QuadraticEquation#simplify(QuadraticEquation)} kept the original equation as simplification would
+         * have reduced precision of the solution.
+         */
+        SIMPLIFY_FALLBACK,
+
+        NEGATIVE_DISCRIMINANT,
+        ZERO_DISCRIMINANT,
+        POSITIVE_DISCRIMINANT,
+
+        /**
+         * Solution overflowed, either {@link OutOfNumericRange} was thrown or {@link SolutionStatus#OVERFLOW} stored.
+         */
+        OUT_OF_NUMERIC_RANGE,
+
+        /**
+         * {@link QuadraticEquationSolver.Type#ADAPTIVE} solver could not certify double precision roots.
+         */
+        ADAPTIVE_ESCALATION,
+
+        /**
+         * {@code NewQadraticEquationSolver} fell back from double-double to Apfloat refinement.
+         */
+        APFLOAT_FALLBACK
+    }
+
+    /**
+     * Distributions of latencies in nanoseconds and of numbers of iterations.
+     */
+    public enum Distribution {
+        SIMPLE_AP_NANOS,
+        CITARDAUQ_AP_NANOS,
+        NEW_SOLVER_NANOS,
+        DOUBLE_DOUBLE_ITERATIONS,
+        APFLOAT_ITERATIONS
+    }
+
+    public static final String OBJECT_NAME = "net.priimak.qe:type=SolverMetrics";
+
+    static final boolean ENABLED = Boolean.getBoolean("net.priimak.qe.metrics");
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+    private static final String[] PERCENTILE_NAMES = {"p50", "p90", "p99", "p999"};
+
+    private static final Map<Counter, LongAdder> COUNTERS = new EnumMap<>(Counter.class);
+    private static final Map<Distribution, LogLinearHistogram> HISTOGRAMS = new EnumMap<>(Distribution.class);
+
+    static {
+        for (Counter counter : Counter.values()) {
+            COUNTERS.put(counter, new LongAdder());
+        }
+        for (Distribution distribution : Distribution.values()) {
+            HISTOGRAMS.put(distribution, new LogLinearHistogram());
+        }
+        if (ENABLED) {
+            register();
+        }
+    }
+
+    private SolverMetrics() {
+        throw new AssertionError();
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    public static long getCount(Counter counter) {
+        return COUNTERS.get(counter).sum();
+    }
+
+    public static long getCount(Distribution distribution) {
+        return HISTOGRAMS.get(distribution).getCount();
+    }
+
+    public static double getMean(Distribution distribution) {
+        return HISTOGRAMS.get(distribution).getMean();
+    }
+
+    public static long getMax(Distribution distribution) {
+        return HISTOGRAMS.get(distribution).getMax();
+    }
+
+    /**
+     * @param percentile percentile in range [0, 100].
+     * @return value at the given percentile with relative error of about 3%.
+     */
+    public static long getValueAtPercentile(Distribution distribution, double percentile) {
+        return HISTOGRAMS.get(distribution).getValueAtPercentile(percentile);
+    }
+
+    /**
+     * Reset all counters and histograms.
+     */
+    public static void reset() {
+        for (LongAdder counter : COUNTERS.values()) {
+            counter.reset();
+        }
+        for (LogLinearHistogram histogram : HISTOGRAMS.values()) {
+            histogram.reset();
+        }
+    }
+
+    static void increment(Counter counter) {
+        if (ENABLED) {
+            COUNTERS.get(counter).increment();
+        }
+    }
+
+    /**
+     * Count sign of the discriminant, infinite or NaN discriminant is not counted as it results in overflow.
+     */
+    static void countDiscriminant(double discriminant) {
+        if (ENABLED && Double.isFinite(discriminant)) {
+            countDiscriminant(discriminant < 0 ? -1 : discriminant > 0 ? 1 : 0);
+        }
+    }
+
+    static void countDiscriminant(int sign) {
+        if (ENABLED) {
+            increment(sign < 0 ? Counter.NEGATIVE_DISCRIMINANT
+                : sign > 0 ? Counter.POSITIVE_DISCRIMINANT
+                : Counter.ZERO_DISCRIMINANT);
+        }
+    }
+
+    /**
+     * @return start time to pass to {@link #recordTime(Distribution, long)} or 0 if metrics are disabled.
+     */
+    static long startTime() {
+        return ENABLED ? System.nanoTime() : 0;
+    }
+
+    static void recordTime(Distribution distribution, long startTime) {
+        if (ENABLED) {
+            HISTOGRAMS.get(distribution).record(System.nanoTime() - startTime);
+        }
+    }
+
+    static void record(Distribution distribution, long value) {
+        if (ENABLED) {
+            HISTOGRAMS.get(distribution).record(value);
+        }
+    }
+
+    private static void register() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new MXBean(), name);
+            }
+        } catch (JMException e) {
+            // metrics are still available through this class
+        }
+    }
+
+    private static final class MXBean implements SolverMetricsMXBean {
+        @Override
+        public Map<String, Long> getCounters() {
+            Map<String, Long> counters = new LinkedHashMap<>();
+            for (Counter counter : Counter.values()) {
+                counters.put(counter.name(), getCount(counter));
+            }
+            return counters;
+        }
+
+        @Override
+        public Map<String, Double> getDistributions() {
+            Map<String, Double> distributions = new LinkedHashMap<>();
+            for (Distribution distribution : Distribution.values()) {
+                LogLinearHistogram histogram = HISTOGRAMS.get(distribution);
+                distributions.put(distribution.name() + ".count", (double) histogram.getCount());
+                distributions.put(distribution.name() + ".mean", histogram.getMean());
+                distributions.put(distribution.name() + ".max", (double) histogram.getMax());
+                for (int i = 0; i < PERCENTILES.length; i++) {
+                    distributions.put(
+                        distribution.name() + "." + PERCENTILE_NAMES[i],
+                        (double) histogram.getValueAtPercentile(PERCENTILES[i])
+                    );
+                }
+            }
+            return distributions;
+        }
+
+        @Override
+        public void reset() {
+            SolverMetrics.reset();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package net.priimak.qe;
+
+import java.util.Map;
+
+/**
+ * Management interface of the {@link SolverMetrics}.
+ */
+public interface SolverMetricsMXBean {
+    /**
+     * @return values of all {@link SolverMetrics.Counter counters} by their names.
+     */
+    Map<String, Long> getCounters();
+
+    /**
+     * @return count, mean, max and 50, 90, 99 and 99.9 percentiles of all
+     *         {@link SolverMetrics.Distribution distributions}, keyed like {@code NEW_SOLVER_NANOS.p99}.
+     */
+    Map<String, Double> getDistributions();
+
+    void reset();
+}
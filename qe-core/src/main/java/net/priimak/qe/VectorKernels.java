@@ -0,0 +1,31 @@
+package net.priimak.qe;
+
+/**
+ * Locator of the SIMD batch kernels built on the {@code jdk.incubator.vector} API. These kernels are compiled from
+ * {@code src/main/java17} only when building on JDK 17 or newer and can be used only if JVM was started with
+ * {@code --add-modules jdk.incubator.vector}. When they are not available solvers fall back to their scalar kernels.
+ * Use of the vector kernels can be disabled by setting system property {@code net.priimak.qe.vector} to
+ * {@code false}.
+ */
+final class VectorKernels {
+    /**
+     * Vectorized kernel of the {@link QuadraticEquationSolver.Type#CITARDAUQ} solver or null if not available.
+     */
+    static final BatchKernel CITARDAUQ = load("net.priimak.qe.CitardauqVectorKernel");
+
+    private VectorKernels() {
+        throw new AssertionError();
+    }
+
+    private static BatchKernel load(String className) {
+        if (!Boolean.parseBoolean(System.getProperty("net.priimak.qe.vector", "true"))) {
+            return null;
+        }
+        try {
+            return (BatchKernel) Class.forName(className).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError notAvailable) {
+            // either not compiled in, older JVM or jdk.incubator.vector module is not added
+            return null;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package net.priimak.qe;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD version of the {@link CitardauqQuadraticEquationSolver} batch kernel. Lanes are solved without branching:
+ * {@code b > 0} branch is replaced by copying sign of b onto the square root of discriminant and roots are selected
+ * by the masks of discriminant sign. Lanes that hit corner cases of
+ * {@link QuadraticEquationSolverFactory#handleCornerCases(QuadraticEquation)}, i.e. zero, subnormal or non-finite
+ * parameters, are masked out and solved by the scalar kernel. Results are bit identical to the scalar kernel.
+ */
+final class CitardauqVectorKernel implements BatchKernel {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final long SIGN_MASK = 0x8000000000000000L;
+    private static final long EXPONENT_BITS = 0x7ffL;
+
+    @Override
+    public void solve(double[] a, double[] b, double[] c, int offset, int length,
+                      double[] root1, double[] root2, int[] rootCount, byte[] status) {
+        int end = offset + length;
+        int vectorEnd = offset + SPECIES.loopBound(length);
+        int i = offset;
+        for (; i < vectorEnd; i += SPECIES.length()) {
+            solveLanes(a, b, c, i, root1, root2, rootCount, status);
+        }
+        for (; i < end; i++) {
+            CitardauqQuadraticEquationSolver.solve(a[i], b[i], c[i], i, root1, root2, rootCount, status);
+        }
+    }
+
+    private static void solveLanes(double[] a, double[] b, double[] c, int index,
+                                   double[] root1, double[] root2, int[] rootCount, byte[] status) {
+        DoubleVector va = DoubleVector.fromArray(SPECIES, a, index);
+        DoubleVector vb = DoubleVector.fromArray(SPECIES, b, index);
+        DoubleVector vc = DoubleVector.fromArray(SPECIES, c, index);
+
+        // same as QuadraticEquation.simplificationDivisor(a, b, c) for normal numbers
+        LongVector minExp = exponent(va).min(exponent(vb)).min(exponent(vc));
+        LongVector maxExp = exponent(va).max(exponent(vb)).max(exponent(vc));
+        long scalarLanes = minExp.eq(0).or(maxExp.eq(EXPONENT_BITS)).toLong();
+        DoubleVector div = minExp.lanewise(VectorOperators.LSHL, 52).reinterpretAsDoubles();
+        DoubleVector sa = va.div(div);
+        DoubleVector sb = vb.div(div);
+        DoubleVector sc = vc.div(div);
+        VectorMask<Double> keepOriginal = minExp.lt(1023)
+            .and(exponent(sa).max(exponent(sb)).max(exponent(sc)).compare(VectorOperators.GT, 1044))
+            .cast(SPECIES);
+        va = sa.blend(va, keepOriginal);
+        vb = sb.blend(vb, keepOriginal);
+        vc = sc.blend(vc, keepOriginal);
+
+        // ax^2 + bx + c = 0
+        DoubleVector discriminant = vb.mul(vb).sub(va.mul(4).mul(vc));
+        VectorMask<Double> twoRoots = discriminant.compare(VectorOperators.GT, 0);
+        VectorMask<Double> oneRoot = discriminant.compare(VectorOperators.EQ, 0);
+
+        // -b - sqrt(discriminant) if b > 0 and -b + sqrt(discriminant) if b < 0
+        DoubleVector signedSqrt = discriminant.lanewise(VectorOperators.SQRT).reinterpretAsLongs()
+            .or(vb.reinterpretAsLongs().and(SIGN_MASK))
+            .reinterpretAsDoubles();
+        DoubleVector discriminantPart = vb.neg().sub(signedSqrt);
+        DoubleVector farRoot = discriminantPart.div(va).div(2);
+        DoubleVector nearRoot = vc.mul(2).div(discriminantPart);
+        VectorMask<Double> positiveB = vb.compare(VectorOperators.GT, 0);
+
+        DoubleVector noRoot = DoubleVector.broadcast(SPECIES, Double.NaN);
+        DoubleVector x1 = noRoot
+            .blend(vb.div(va).neg().div(2), oneRoot)
+            .blend(farRoot.blend(nearRoot, positiveB), twoRoots);
+        DoubleVector x2 = noRoot.blend(nearRoot.blend(farRoot, positiveB), twoRoots);
+        VectorMask<Double> overflow = discriminant.test(VectorOperators.IS_FINITE).not()
+            .or(oneRoot.and(x1.test(VectorOperators.IS_FINITE).not()))
+            .or(twoRoots.and(x1.test(VectorOperators.IS_FINITE).and(x2.test(VectorOperators.IS_FINITE)).not()));
+        noRoot.blend(x1, overflow.not()).intoArray(root1, index);
+        noRoot.blend(x2, overflow.not()).intoArray(root2, index);
+
+        long overflowLanes = overflow.toLong();
+        long twoRootLanes = twoRoots.toLong();
+        long oneRootLanes = oneRoot.toLong();
+        for (int lane = 0; lane < SPECIES.length(); lane++) {
+            int i = index + lane;
+            long laneBit = 1L << lane;
+            if ((scalarLanes & laneBit) != 0) {
+                CitardauqQuadraticEquationSolver.solve(a[i], b[i], c[i], i, root1, root2, rootCount, status);
+            } else if ((overflowLanes & laneBit) != 0) {
+                rootCount[i] = 0;
+                status[i] = SolutionStatus.OVERFLOW.code();
+            } else if ((twoRootLanes & laneBit) != 0) {
+                rootCount[i] = 2;
+                status[i] = SolutionStatus.OK.code();
+            } else if ((oneRootLanes & laneBit) != 0) {
+                rootCount[i] = 1;
+                status[i] = SolutionStatus.OK.code();
+            } else {
+                rootCount[i] = 0;
+                status[i] = SolutionStatus.NO_REAL_ROOTS.code();
+            }
+        }
+    }
+
+    /**
+     * @return biased exponents of the given numbers, same as {@link QuadraticEquation#exponent(double)}.
+     */
+    private static LongVector exponent(DoubleVector numbers) {
+        return numbers.reinterpretAsLongs().lanewise(VectorOperators.LSHR, 52).and(EXPONENT_BITS);
+    }
+}
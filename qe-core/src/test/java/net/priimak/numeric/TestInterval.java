@@ -0,0 +1,36 @@
+package net.priimak.numeric;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public final class TestInterval {
+    @Test
+    public void testInterval() {
+        Interval interval = new Interval(-1, 3);
+        Assert.assertEquals(interval.getLo(), -1.0);
+        Assert.assertEquals(interval.getHi(), 3.0);
+        Assert.assertEquals(interval.getWidth(), 4.0);
+        Assert.assertEquals(interval.getMidpoint(), 1.0);
+        Assert.assertTrue(interval.contains(-1));
+        Assert.assertTrue(interval.contains(3));
+        Assert.assertFalse(interval.contains(Math.nextUp(3.0)));
+        Assert.assertEquals(Interval.of(2), new Interval(2, 2));
+        Assert.assertEquals(Interval.of(2).hashCode(), new Interval(2, 2).hashCode());
+        Assert.assertNotEquals(Interval.of(0.0), Interval.of(-0.0));
+        Assert.assertEquals(interval.toString(), "[-1.0, 3.0]");
+
+        Interval tiny = new Interval(Double.MIN_VALUE, 2 * Double.MIN_VALUE);
+        Assert.assertTrue(tiny.contains(tiny.getMidpoint()));
+        Assert.assertEquals(new Interval(-Double.MAX_VALUE, Double.MAX_VALUE).getMidpoint(), 0.0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testEmptyInterval() {
+        new Interval(1, 0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testNaN() {
+        new Interval(Double.NaN, 0);
+    }
+}
@@ -0,0 +1,41 @@
+package net.priimak.numeric;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public final class TestRootSet {
+    @Test
+    public void testRootSet() {
+        Assert.assertSame(RootSet.of(), RootSet.EMPTY);
+        Assert.assertTrue(RootSet.EMPTY.isEmpty());
+        Assert.assertEquals(RootSet.EMPTY.toValues(), Collections.emptyList());
+
+        RootSet one = RootSet.of(1.5, 0.25);
+        Assert.assertEquals(one.size(), 1);
+        Assert.assertEquals(one.get(0), new DoubleValue(1.5, 0.25));
+        Assert.assertEquals(one.getRoots(), new double[] {1.5});
+
+        RootSet two = RootSet.of(-1, 0, 2, 1.0E-16);
+        Assert.assertEquals(two.getRoot(1), 2.0);
+        Assert.assertEquals(two.getError(1), 1.0E-16);
+        Assert.assertEquals(two.toValues(), Arrays.asList(new Value<>(-1.0, 0.0), new Value<>(2.0, 1.0E-16)));
+        Assert.assertEquals(two, RootSet.of(-1, 0, 2, 1.0E-16));
+        Assert.assertEquals(two.hashCode(), RootSet.of(-1, 0, 2, 1.0E-16).hashCode());
+        Assert.assertNotEquals(two, RootSet.of(-1, 0, 2, 0));
+        Assert.assertEquals(two.toString(), "[-1.0 ± 0.0, 2.0 ± 1.0E-16]");
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void testMissingRoot() {
+        RootSet.of(1.5, 0.25).getRoot(1);
+    }
+
+    @Test
+    public void testDoubleValue() {
+        Assert.assertEquals(new DoubleValue(Double.NaN, 0), new DoubleValue(Double.NaN, 0));
+        Assert.assertNotEquals(new DoubleValue(0.0, 0), new DoubleValue(-0.0, 0));
+        Assert.assertEquals(new DoubleValue(1, 2).toValue(), new Value<>(1.0, 2.0));
+    }
+}
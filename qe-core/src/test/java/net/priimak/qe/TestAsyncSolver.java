@@ -0,0 +1,134 @@
+package net.priimak.qe;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public final class TestAsyncSolver {
+    @Test
+    public void testSolutionsMatchSolver() throws Exception {
+        QuadraticEquationSolver solver = QuadraticEquationSolverFactory.getSolver(QuadraticEquationSolver.Type.CITARDAUQ);
+        try (AsyncQuadraticEquationSolver asyncSolver = QuadraticEquationSolverFactory.getAsyncSolver(solver)) {
+            List<CompletableFuture<double[]>> futures = new ArrayList<>();
+            for (QuadraticEquation equation : TestSolvers.EQUATIONS) {
+                futures.add(asyncSolver.solveAsync(equation));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                Assert.assertEquals(futures.get(i).get(), solver.solve(TestSolvers.EQUATIONS.get(i)));
+            }
+        }
+    }
+
+    @Test
+    public void testOverflowCompletesExceptionally() throws Exception {
+        try (AsyncQuadraticEquationSolver asyncSolver = QuadraticEquationSolverFactory.getAsyncSolver(
+            QuadraticEquationSolverFactory.getSolver(QuadraticEquationSolver.Type.SIMPLE))
+        ) {
+            asyncSolver.solveAsync(new QuadraticEquation(Double.MIN_VALUE, 1, 1)).get();
+            Assert.fail("Solution must overflow");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof OutOfNumericRange, e.toString());
+        }
+    }
+
+    /**
+     * Many threads must be served by a small queue and small batches, blocking while queue is full.
+     */
+    @Test
+    public void testConcurrentRequests() throws Exception {
+        AsyncQuadraticEquationSolver asyncSolver = QuadraticEquationSolverFactory.getAsyncSolver(
+            QuadraticEquationSolverFactory.getSolver(QuadraticEquationSolver.Type.EXTENDED_RANGE),
+            16, TimeUnit.MICROSECONDS.toNanos(50), 4, null
+        );
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Future<?>[] futures = new Future<?>[8];
+            for (int t = 0; t < futures.length; t++) {
+                futures[t] = executor.submit(() -> {
+                    List<CompletableFuture<double[]>> solutions = new ArrayList<>();
+                    for (int i = 0; i < 2000; i++) {
+                        solutions.add(asyncSolver.solveAsync(new QuadraticEquation(1, -(i % 128) - 3, i % 128 + 2)));
+                    }
+                    for (int i = 0; i < solutions.size(); i++) {
+                        Assert.assertEquals(solutions.get(i).get(), new double[] {i % 128 + 2, 1});
+                    }
+                    return null;
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+            asyncSolver.close();
+        }
+    }
+
+    @Test
+    public void testClosedSolverRejectsRequests() throws Exception {
+        AsyncQuadraticEquationSolver asyncSolver = QuadraticEquationSolverFactory.getAsyncSolver(
+            QuadraticEquationSolverFactory.getSolver(QuadraticEquationSolver.Type.CITARDAUQ)
+        );
+        CompletableFuture<double[]> accepted = asyncSolver.solveAsync(new QuadraticEquation(1, -3, 2));
+        asyncSolver.close();
+        Assert.assertEquals(accepted.get(), new double[] {2, 1});
+        try {
+            asyncSolver.solveAsync(new QuadraticEquation(1, -3, 2)).get();
+            Assert.fail("Closed solver must reject requests");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof RejectedExecutionException, e.toString());
+        }
+    }
+
+    /**
+     * Interrupted close must return with interrupt status of the caller restored, and requests still in the queue
+     * must be rejected by the dispatcher it interrupts rather than left incomplete.
+     */
+    @Test
+    public void testInterruptedClose() throws Exception {
+        CountDownLatch executing = new CountDownLatch(1);
+        Semaphore release = new Semaphore(0);
+        // dispatcher runs batches itself and waits for release before the first one
+        Executor executor = command -> {
+            executing.countDown();
+            release.acquireUninterruptibly();
+            command.run();
+        };
+        AsyncQuadraticEquationSolver asyncSolver = QuadraticEquationSolverFactory.getAsyncSolver(
+            QuadraticEquationSolverFactory.getSolver(QuadraticEquationSolver.Type.CITARDAUQ), 1, 0, 16, executor
+        );
+        CompletableFuture<double[]> flushed = asyncSolver.solveAsync(new QuadraticEquation(1, -3, 2));
+        Assert.assertTrue(executing.await(1, TimeUnit.MINUTES));
+        List<CompletableFuture<double[]>> queued = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            queued.add(asyncSolver.solveAsync(new QuadraticEquation(1, -3, 2)));
+        }
+
+        Thread.currentThread().interrupt();
+        asyncSolver.close();
+        Assert.assertTrue(Thread.interrupted(), "Interrupt status must be restored");
+        release.release();
+
+        Assert.assertEquals(flushed.get(1, TimeUnit.MINUTES), new double[] {2, 1});
+        for (CompletableFuture<double[]> future : queued) {
+            try {
+                future.get(1, TimeUnit.MINUTES);
+                Assert.fail("Requests left in the queue must be rejected");
+            } catch (ExecutionException e) {
+                Assert.assertTrue(e.getCause() instanceof RejectedExecutionException, e.toString());
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package net.priimak.qe;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public final class TestBatchPlanner {
+    private static final double MAXIMUM_RELATIVE_ERROR = AdaptiveQuadraticEquationSolver.DEFAULT_MAX_RELATIVE_ERROR;
+
+    @Test
+    public void testClassify() {
+        assertBucket(0, 2, 1, BatchPlanner.Bucket.DEGENERATE);
+        assertBucket(1, 0, -1, BatchPlanner.Bucket.DEGENERATE);
+        assertBucket(0, 0, 0, BatchPlanner.Bucket.DEGENERATE);
+        assertBucket(1, 3, 0, BatchPlanner.Bucket.ZERO_CONSTANT);
+        assertBucket(1, -3, 2, BatchPlanner.Bucket.WELL_SCALED);
+        assertBucket(1, 1, 1, BatchPlanner.Bucket.WELL_SCALED);
+        assertBucket(1.0E-140, 1.0E140, -1.0E-140, BatchPlanner.Bucket.WELL_SCALED);
+        assertBucket(1, -2, 1, BatchPlanner.Bucket.NEAR_DOUBLE_ROOT);
+        assertBucket(1, -(2 + 2.897595e-8), 1 + 2.897595e-8, BatchPlanner.Bucket.NEAR_DOUBLE_ROOT);
+        assertBucket(1.0E-300, 1, 1, BatchPlanner.Bucket.WIDE_EXPONENT);
+        assertBucket(1, Double.NaN, 1, BatchPlanner.Bucket.WIDE_EXPONENT);
+        assertBucket(1, Double.MIN_VALUE, 1, BatchPlanner.Bucket.WIDE_EXPONENT);
+    }
+
+    /**
+     * Plan must list every equation of the range once, grouped by bucket in the order of the batch.
+     */
+    @Test
+    public void testPlan() {
+        double[] a = {9, 0, 1, 1, 1e-300, 1, 0, 1};
+        double[] b = {9, 1, -3, 3, 1, -2, 0, 5};
+        double[] c = {9, 1, 2, 0, 1, 1, 1, 6};
+        BatchPlanner planner = new BatchPlanner();
+        planner.plan(a, b, c, 1, a.length - 1, MAXIMUM_RELATIVE_ERROR);
+        int[] indices = planner.indices();
+        assertIndices(planner, BatchPlanner.Bucket.DEGENERATE, 1, 6);
+        assertIndices(planner, BatchPlanner.Bucket.ZERO_CONSTANT, 3);
+        assertIndices(planner, BatchPlanner.Bucket.WELL_SCALED, 2, 7);
+        assertIndices(planner, BatchPlanner.Bucket.NEAR_DOUBLE_ROOT, 5);
+        assertIndices(planner, BatchPlanner.Bucket.WIDE_EXPONENT, 4);
+        Assert.assertEquals(planner.start(BatchPlanner.Bucket.DEGENERATE), 0);
+        Assert.assertEquals(planner.end(BatchPlanner.Bucket.WIDE_EXPONENT), a.length - 1);
+        Assert.assertTrue(indices.length >= a.length - 1);
+    }
+
+    /**
+     * Planner of the current thread is reused by every batch, so plan must not carry anything over from the previous
+     * one.
+     */
+    @Test
+    public void testReplan() {
+        double[] a = {9, 0, 1, 1, 1e-300, 1, 0, 1};
+        double[] b = {9, 1, -3, 3, 1, -2, 0, 5};
+        double[] c = {9, 1, 2, 0, 1, 1, 1, 6};
+        BatchPlanner planner = BatchPlanner.forCurrentThread();
+        Assert.assertSame(BatchPlanner.forCurrentThread(), planner);
+        planner.plan(a, b, c, 0, a.length, MAXIMUM_RELATIVE_ERROR);
+        planner.plan(a, b, c, 2, 3, MAXIMUM_RELATIVE_ERROR);
+        assertIndices(planner, BatchPlanner.Bucket.DEGENERATE);
+        assertIndices(planner, BatchPlanner.Bucket.ZERO_CONSTANT, 3);
+        assertIndices(planner, BatchPlanner.Bucket.WELL_SCALED, 2);
+        assertIndices(planner, BatchPlanner.Bucket.NEAR_DOUBLE_ROOT);
+        assertIndices(planner, BatchPlanner.Bucket.WIDE_EXPONENT, 4);
+    }
+
+    private static void assertBucket(double a, double b, double c, BatchPlanner.Bucket bucket) {
+        Assert.assertEquals(
+            BatchPlanner.classify(a, b, c, MAXIMUM_RELATIVE_ERROR), bucket.ordinal(),
+            new QuadraticEquation(a, b, c).toString()
+        );
+    }
+
+    private static void assertIndices(BatchPlanner planner, BatchPlanner.Bucket bucket, int... expected) {
+        int start = planner.start(bucket);
+        int[] actual = new int[planner.end(bucket) - start];
+        System.arraycopy(planner.indices(), start, actual, 0, actual.length);
+        Assert.assertEquals(actual, expected, bucket.toString());
+    }
+}
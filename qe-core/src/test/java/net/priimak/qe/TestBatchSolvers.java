@@ -0,0 +1,376 @@
+package net.priimak.qe;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+public final class TestBatchSolvers {
+    private static final int RANDOM_EQUATIONS = 10000;
+
+    @Test
+    public void testCitardauqBatchSolver() {
+        testBatchSolver(QuadraticEquationSolverFactory.getSolver(QuadraticEquationSolver.Type.CITARDAUQ));
+    }
+
+    @Test
+    public void testCitardauqVectorKernel() {
+        if (VectorKernels.CITARDAUQ == null) {
+            throw new SkipException("Vector API kernels are not available");
+        }
+        testCitardauqKernel(VectorKernels.CITARDAUQ);
+    }
+
+    @Test
+    public void testCitardauqPlannedKernel() {
+        testCitardauqKernel(CitardauqQuadraticEquationSolver::solvePlanned);
+    }
+
+    @Test
+    public void testSimpleBatchSolver() {
+        testBatchSolver(QuadraticEquationSolverFactory.getSolver(QuadraticEquationSolver.Type.SIMPLE));
+    }
+
+    @Test
+    public void testSimpleApBatchSolver() {
+        testBatchSolver(getAvailableSolver(QuadraticEquationSolver.Type.SIMPLE_AP));
+    }
+
+    @Test
+    public void testExtendedRangeBatchSolver() {
+        testBatchSolver(QuadraticEquationSolverFactory.getSolver(QuadraticEquationSolver.Type.EXTENDED_RANGE));
+    }
+
+    @Test
+    public void testAdaptiveBatchSolver() {
+        testBatchSolver(getAvailableSolver(QuadraticEquationSolver.Type.ADAPTIVE));
+    }
+
+    @Test
+    public void testAdaptiveBatchSolverWithLastResort() {
+        testBatchSolver(QuadraticEquationSolverFactory.getAdaptiveSolver(
+            AdaptiveQuadraticEquationSolver.DEFAULT_MAX_RELATIVE_ERROR,
+            QuadraticEquationSolverFactory.getSolver(QuadraticEquationSolver.Type.EXTENDED_RANGE)
+        ));
+    }
+
+    @Test
+    public void testParallelSolvers() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            testBatchSolver(QuadraticEquationSolverFactory.getParallelSolver(QuadraticEquationSolver.Type.CITARDAUQ, pool));
+            if (QuadraticEquationSolverFactory.isAvailable(QuadraticEquationSolver.Type.SIMPLE_AP)) {
+                testBatchSolver(
+                    QuadraticEquationSolverFactory.getParallelSolver(QuadraticEquationSolver.Type.SIMPLE_AP, pool)
+                );
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Solutions stored into {@link RootResult} must be identical to the batch solutions and overflow must be reported by
+     * status.
+     */
+    @Test
+    public void testRootResult() {
+        double[][] coefficients = equations();
+        int length = 2000;
+        double[] root1 = new double[length];
+        double[] root2 = new double[length];
+        int[] rootCount = new int[length];
+        byte[] status = new byte[length];
+        RootResult result = new RootResult();
+        for (QuadraticEquationSolver.Type type : QuadraticEquationSolver.Type.values()) {
+            if (!QuadraticEquationSolverFactory.isAvailable(type)) {
+                continue;
+            }
+            QuadraticEquationSolver solver = QuadraticEquationSolverFactory.getSolver(type);
+            solver.solve(coefficients[0], coefficients[1], coefficients[2], 0, length, root1, root2, rootCount, status);
+            for (int i = 0; i < length; i++) {
+                solver.solve(coefficients[0][i], coefficients[1][i], coefficients[2][i], result);
+                String message = type + " " + new QuadraticEquation(coefficients[0][i], coefficients[1][i], coefficients[2][i]);
+                Assert.assertEquals(result.getStatus(), SolutionStatus.fromCode(status[i]), message);
+                Assert.assertEquals(result.getRootCount(), rootCount[i], message);
+                Assert.assertEquals(result.getRoot1(), root1[i], 0, message);
+                Assert.assertEquals(result.getRoot2(), root2[i], 0, message);
+            }
+            solver.solve(new QuadraticEquation(Double.MIN_VALUE, 1, 1), result);
+            Assert.assertEquals(result.getStatus(), SolutionStatus.OVERFLOW, type.toString());
+            Assert.assertEquals(result.getRootCount(), 0, type.toString());
+        }
+    }
+
+    /**
+     * Complex roots must be found by solvers of all types, including those of equations which overflow in naive
+     * arithmetic or have nearly double roots.
+     */
+    @Test
+    public void testComplexRoots() {
+        double[] a = {1, 1, 1, 1e300, 1e-300, 1, 1e-300, 0, 1e-300};
+        double[] b = {0, 2, -3, 1e300, 1e-300, -2, 1e-300, 0, 1};
+        double[] c = {1, 5, 2, 1e300, 1e-300, 1 + 0x1p-50, 1e300, 1, 1e300};
+        double sqrt3 = Math.sqrt(3) / 2;
+        double[] expectedReal = {0, -1, 2, -0.5, -0.5, 1, -0.5, Double.NaN, -5e299};
+        double[] expectedImaginary = {1, 2, 0, sqrt3, sqrt3, 0x1p-25, 1e300, Double.NaN, Math.sqrt(0.75) * 1e300};
+        for (QuadraticEquationSolver.Type type : QuadraticEquationSolver.Type.values()) {
+            if (!QuadraticEquationSolverFactory.isAvailable(type)) {
+                continue;
+            }
+            int size = a.length;
+            double[] real1 = new double[size];
+            double[] real2 = new double[size];
+            double[] imaginary = new double[size];
+            int[] rootCount = new int[size];
+            byte[] status = new byte[size];
+            QuadraticEquationSolverFactory.getSolver(type)
+                .solveComplex(a, b, c, 0, size, real1, real2, imaginary, rootCount, status);
+            for (int i = 0; i < size; i++) {
+                String message = type + " " + new QuadraticEquation(a[i], b[i], c[i]);
+                Assert.assertEquals(real1[i], expectedReal[i], Math.abs(expectedReal[i]) * 1e-15, message);
+                Assert.assertEquals(imaginary[i], expectedImaginary[i], Math.abs(expectedImaginary[i]) * 1e-15, message);
+                if (i == 2) {
+                    Assert.assertEquals(status[i], SolutionStatus.OK.code(), message);
+                    Assert.assertEquals(real2[i], 1.0D, message);
+                } else if (i == 7) {
+                    Assert.assertEquals(status[i], SolutionStatus.NO_REAL_ROOTS.code(), message);
+                } else {
+                    Assert.assertEquals(status[i], SolutionStatus.COMPLEX_ROOTS.code(), message);
+                    Assert.assertEquals(real2[i], real1[i], message);
+                    Assert.assertEquals(rootCount[i], 2, message);
+                }
+            }
+        }
+    }
+
+    /**
+     * Equations with a and c of opposite signs, products of parameters of which are out of range of exact
+     * discriminant, always have two real roots, and roots of ones with c / a > 0 far from each other are found without
+     * overflow.
+     */
+    @Test
+    public void testComplexRootsOutOfExactRange() {
+        double[] a = {-5.406650275142616E-37, 2.126331614991385E-216};
+        double[] b = {-6.447883529893373E-240, -9.953125E-318};
+        double[] c = {2.80523935053E-312, -8.187345519588755E-206};
+        int size = a.length;
+        double[] expectedRoot1 = new double[size];
+        double[] expectedRoot2 = new double[size];
+        int[] expectedRootCount = new int[size];
+        byte[] expectedStatus = new byte[size];
+        QuadraticEquationSolverFactory.getSolver(QuadraticEquationSolver.Type.EXTENDED_RANGE)
+            .solve(a, b, c, 0, size, expectedRoot1, expectedRoot2, expectedRootCount, expectedStatus);
+        for (QuadraticEquationSolver.Type type : QuadraticEquationSolver.Type.values()) {
+            if (!QuadraticEquationSolverFactory.isAvailable(type)) {
+                continue;
+            }
+            double[] real1 = new double[size];
+            double[] real2 = new double[size];
+            double[] imaginary = new double[size];
+            int[] rootCount = new int[size];
+            byte[] status = new byte[size];
+            QuadraticEquationSolverFactory.getSolver(type)
+                .solveComplex(a, b, c, 0, size, real1, real2, imaginary, rootCount, status);
+            for (int i = 0; i < size; i++) {
+                String message = type + " " + new QuadraticEquation(a[i], b[i], c[i]);
+                Assert.assertEquals(status[i], SolutionStatus.OK.code(), message);
+                Assert.assertEquals(rootCount[i], 2, message);
+                Assert.assertEquals(imaginary[i], 0.0D, message);
+                double min = Math.min(expectedRoot1[i], expectedRoot2[i]);
+                double max = Math.max(expectedRoot1[i], expectedRoot2[i]);
+                Assert.assertEquals(Math.min(real1[i], real2[i]), min, Math.abs(min) * 1e-15, message);
+                Assert.assertEquals(Math.max(real1[i], real2[i]), max, Math.abs(max) * 1e-15, message);
+            }
+        }
+
+        // b^2 overflows, roots 1e200 and 1e-200 do not
+        double[] real1 = new double[1];
+        double[] real2 = new double[1];
+        double[] imaginary = new double[1];
+        int[] rootCount = new int[1];
+        byte[] status = new byte[1];
+        QuadraticEquationSolverFactory.storeComplexRoots(
+            1, -1e200, 1, 0, real1, real2, imaginary, rootCount, status,
+            new double[QuadraticEquationSolverFactory.DISCRIMINANT_TERMS]
+        );
+        Assert.assertEquals(status[0], SolutionStatus.OK.code());
+        Assert.assertEquals(rootCount[0], 2);
+        Assert.assertEquals(real1[0], 1e-200, 1e-215);
+        Assert.assertEquals(real2[0], 1e200, 1e185);
+    }
+
+    /**
+     * Equation with two real roots next to each other, which SIMPLE solver takes for one with double root, must be
+     * given both of its real roots by complex solver.
+     */
+    @Test
+    public void testComplexRootsOfMisclassifiedEquation() {
+        double[] a = {0.7317000029360695};
+        double[] b = {-2.067510690358672};
+        double[] c = {1.4605030878757816};
+        double[] real1 = new double[1];
+        double[] real2 = new double[1];
+        double[] imaginary = new double[1];
+        int[] rootCount = new int[1];
+        byte[] status = new byte[1];
+        QuadraticEquationSolver solver = QuadraticEquationSolverFactory.getSolver(QuadraticEquationSolver.Type.SIMPLE);
+        solver.solve(a, b, c, 0, 1, real1, real2, rootCount, status);
+        Assert.assertEquals(rootCount[0], 1);
+
+        solver.solveComplex(a, b, c, 0, 1, real1, real2, imaginary, rootCount, status);
+        Assert.assertEquals(status[0], SolutionStatus.OK.code());
+        Assert.assertEquals(rootCount[0], 2);
+        Assert.assertEquals(imaginary[0], 0.0D);
+        Assert.assertEquals(real1[0], 1.41281309420694, 1e-7);
+        Assert.assertEquals(real2[0] - real1[0], 2.1e-8, 0.1e-8);
+        for (double root : new double[] {real1[0], real2[0]}) {
+            // both roots are closer to the exact ones than their distance, so values next to them differ in sign
+            QuadraticEquation equation = new QuadraticEquation(a[0], b[0], c[0]);
+            double distance = (real2[0] - real1[0]) / 4;
+            Assert.assertTrue(
+                QuadraticEquationEvaluator.compute(equation, root - distance)
+                    * QuadraticEquationEvaluator.compute(equation, root + distance) < 0,
+                Double.toString(root)
+            );
+        }
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void testBatchRangeIsChecked() {
+        double[] buffer = new double[4];
+        QuadraticEquationSolverFactory.getSolver(QuadraticEquationSolver.Type.CITARDAUQ)
+            .solve(buffer, buffer, buffer, 2, 3, new double[5], new double[5], new int[5], new byte[5]);
+    }
+
+    /**
+     * Batch solution must be identical to the solution produced by the {@link QuadraticEquationSolver#solve(QuadraticEquation)}.
+     */
+    static void testBatchSolver(QuadraticEquationSolver solver) {
+        double[][] coefficients = equations();
+        double[] a = coefficients[0];
+        double[] b = coefficients[1];
+        double[] c = coefficients[2];
+        int offset = 3;
+        int length = a.length - offset;
+        double[] root1 = new double[a.length];
+        double[] root2 = new double[a.length];
+        int[] rootCount = new int[a.length];
+        byte[] status = new byte[a.length];
+        solver.solve(a, b, c, offset, length, root1, root2, rootCount, status);
+
+        Assert.assertEquals(rootCount[offset - 1], 0, "Equations before offset must not be touched");
+        for (int i = offset; i < a.length; i++) {
+            QuadraticEquation equation = new QuadraticEquation(a[i], b[i], c[i]);
+            try {
+                double[] roots = solver.solve(equation);
+                if (!allFinite(roots)) {
+                    // arbitrary precision solvers do not detect overflow when converting roots back to double
+                    Assert.assertEquals(SolutionStatus.fromCode(status[i]), SolutionStatus.OVERFLOW, equation.toString());
+                    continue;
+                }
+                Assert.assertEquals(rootCount[i], roots.length, equation.toString());
+                Assert.assertEquals(
+                    SolutionStatus.fromCode(status[i]),
+                    roots.length == 0 ? SolutionStatus.NO_REAL_ROOTS : SolutionStatus.OK,
+                    equation.toString()
+                );
+                if (roots.length > 0) {
+                    Assert.assertEquals(root1[i], roots[0], 0, equation.toString());
+                }
+                if (roots.length > 1) {
+                    Assert.assertEquals(root2[i], roots[1], 0, equation.toString());
+                }
+            } catch (OutOfNumericRange outOfNumericRange) {
+                Assert.assertEquals(SolutionStatus.fromCode(status[i]), SolutionStatus.OVERFLOW, equation.toString());
+                Assert.assertEquals(rootCount[i], 0, equation.toString());
+            }
+        }
+    }
+
+    /**
+     * Kernel of the batch solver must give solutions bit for bit identical to the ones of the scalar solver.
+     */
+    private static void testCitardauqKernel(BatchKernel kernel) {
+        double[][] coefficients = equations();
+        int length = coefficients[0].length;
+        double[] root1 = new double[length];
+        double[] root2 = new double[length];
+        int[] rootCount = new int[length];
+        byte[] status = new byte[length];
+        kernel.solve(coefficients[0], coefficients[1], coefficients[2], 0, length, root1, root2, rootCount, status);
+
+        double[] scalarRoot1 = new double[length];
+        double[] scalarRoot2 = new double[length];
+        int[] scalarRootCount = new int[length];
+        byte[] scalarStatus = new byte[length];
+        for (int i = 0; i < length; i++) {
+            CitardauqQuadraticEquationSolver.solve(
+                coefficients[0][i], coefficients[1][i], coefficients[2][i], i,
+                scalarRoot1, scalarRoot2, scalarRootCount, scalarStatus
+            );
+        }
+        for (int i = 0; i < length; i++) {
+            String message = new QuadraticEquation(coefficients[0][i], coefficients[1][i], coefficients[2][i]).toString();
+            Assert.assertEquals(Double.doubleToLongBits(root1[i]), Double.doubleToLongBits(scalarRoot1[i]), message);
+            Assert.assertEquals(Double.doubleToLongBits(root2[i]), Double.doubleToLongBits(scalarRoot2[i]), message);
+            Assert.assertEquals(rootCount[i], scalarRootCount[i], message);
+            Assert.assertEquals(status[i], scalarStatus[i], message);
+        }
+    }
+
+    /**
+     * @return solver of the given type, test is skipped if it is not available without {@code qe-precise} module.
+     */
+    private static QuadraticEquationSolver getAvailableSolver(QuadraticEquationSolver.Type type) {
+        if (!QuadraticEquationSolverFactory.isAvailable(type)) {
+            throw new SkipException(type + " solver is not available");
+        }
+        return QuadraticEquationSolverFactory.getSolver(type);
+    }
+
+    private static boolean allFinite(double[] roots) {
+        for (double root : roots) {
+            if (!Double.isFinite(root)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return parameters a, b and c of the equations from {@link TestSolvers#EQUATIONS} followed by randomly
+     *         generated equations.
+     */
+    static double[][] equations() {
+        int size = TestSolvers.EQUATIONS.size() + RANDOM_EQUATIONS;
+        double[][] coefficients = new double[3][size];
+        int i = 0;
+        for (QuadraticEquation equation : TestSolvers.EQUATIONS) {
+            coefficients[0][i] = equation.getA();
+            coefficients[1][i] = equation.getB();
+            coefficients[2][i] = equation.getC();
+            i++;
+        }
+        Random random = new Random(42);
+        for (; i < size; i++) {
+            for (int j = 0; j < 3; j++) {
+                switch (random.nextInt(4)) {
+                    case 0:
+                        coefficients[j][i] = 0;
+                        break;
+                    case 1:
+                        coefficients[j][i] = random.nextInt(11) - 5;
+                        break;
+                    case 2:
+                        coefficients[j][i] = random.nextGaussian() * Math.pow(10, random.nextInt(601) - 300);
+                        break;
+                    default:
+                        coefficients[j][i] = random.nextGaussian();
+                }
+            }
+        }
+        return coefficients;
+    }
+}
@@ -0,0 +1,119 @@
+package net.priimak.qe;
+
+import java.util.Random;
+import net.priimak.numeric.RootSet;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public final class TestEquationBlock {
+    /**
+     * Roots solved in block, which spans several chunks, must be the same as roots solved in arrays.
+     */
+    @Test
+    public void testSolveBlock() {
+        int size = 2 * EquationBlock.CHUNK_SIZE + 17;
+        Random random = new Random(22);
+        double[] a = new double[size];
+        double[] b = new double[size];
+        double[] c = new double[size];
+        EquationBlock block = new EquationBlock(size + 1);
+        for (int i = 0; i < size; i++) {
+            a[i] = random.nextGaussian();
+            b[i] = random.nextGaussian();
+            c[i] = i % 100 == 0 ? 0 : random.nextGaussian();
+            Assert.assertEquals(block.add(a[i], b[i], c[i]), i);
+        }
+        double[] root1 = new double[size];
+        double[] root2 = new double[size];
+        int[] rootCount = new int[size];
+        byte[] status = new byte[size];
+        QuadraticEquationSolver solver = QuadraticEquationSolverFactory.getSolver(QuadraticEquationSolver.Type.CITARDAUQ);
+        solver.solve(a, b, c, 0, size, root1, root2, rootCount, status);
+
+        block.solve(solver);
+        Assert.assertEquals(block.size(), size);
+        EquationBlock.Cursor cursor = block.cursor();
+        int count = 0;
+        while (cursor.next()) {
+            int i = cursor.getIndex();
+            Assert.assertEquals(cursor.getA(), a[i]);
+            Assert.assertEquals(cursor.getB(), b[i]);
+            Assert.assertEquals(cursor.getC(), c[i]);
+            Assert.assertEquals(cursor.getRoot1(), root1[i]);
+            Assert.assertEquals(cursor.getRoot2(), root2[i]);
+            Assert.assertEquals(cursor.getRootCount(), rootCount[i]);
+            Assert.assertEquals(cursor.getStatus().code(), status[i]);
+            Assert.assertTrue(Double.isNaN(cursor.getError1()));
+            count++;
+        }
+        Assert.assertEquals(count, size);
+    }
+
+    @Test
+    public void testSolveWithErrors() {
+        EquationBlock block = new EquationBlock(3);
+        block.add(1, -3, 2);
+        block.add(1, 0, 1);
+        block.add(0, 2, -1);
+        EquationBlock.Cursor cursor = block.cursor().moveTo(0);
+        Assert.assertFalse(cursor.isSolved());
+        Assert.assertNull(cursor.getStatus());
+        Assert.assertTrue(Double.isNaN(cursor.getRoot1()));
+
+        block.solve(QuadraticEquationSolverFactory.getSolver(QuadraticEquationSolver.Type.CITARDAUQ), true);
+        RootSet expected = QuadraticEquation.deduceErrors(
+            cursor.toEquation(), new double[] {cursor.getRoot1(), cursor.getRoot2()}
+        );
+        Assert.assertTrue(cursor.isSolved());
+        Assert.assertEquals(cursor.getStatus(), SolutionStatus.OK);
+        Assert.assertEquals(
+            QuadraticEquation.deduceErrors(cursor, new double[] {cursor.getRoot1(), cursor.getRoot2()}), expected
+        );
+        Assert.assertEquals(
+            QuadraticEquationEvaluator.compute(cursor, cursor.getRoot1()),
+            QuadraticEquationEvaluator.compute(cursor.toEquation(), cursor.getRoot1())
+        );
+        Assert.assertEquals(cursor.getRootCount(), 2);
+        Assert.assertEquals(cursor.getError1(), expected.getError(0));
+        Assert.assertEquals(cursor.getError2(), expected.getError(1));
+        Assert.assertEquals(cursor.moveTo(1).getStatus(), SolutionStatus.NO_REAL_ROOTS);
+        Assert.assertTrue(Double.isNaN(cursor.getError1()));
+        Assert.assertEquals(cursor.moveTo(2).getRoot1(), 0.5);
+        Assert.assertEquals(cursor.getError1(), 0.0);
+        Assert.assertTrue(Double.isNaN(cursor.getError2()));
+        Assert.assertEquals(cursor.toString(), "0.0 * x^2 + 2.0 * x + -1.0");
+
+        block.clear();
+        Assert.assertEquals(block.size(), 0);
+        Assert.assertFalse(block.cursor().next());
+    }
+
+    @Test
+    public void testCursorCoefficients() {
+        EquationBlock block = new EquationBlock(2);
+        block.add(1, -3, 2);
+        block.add(-1e-200, 3e-201, 2e97);
+        EquationBlock.Cursor cursor = block.cursor();
+        while (cursor.next()) {
+            assertSameCoefficients(cursor, cursor.toEquation());
+        }
+    }
+
+    private static void assertSameCoefficients(QuadraticCoefficients actual, QuadraticCoefficients expected) {
+        Assert.assertEquals(actual.getA(), expected.getA());
+        Assert.assertEquals(actual.getB(), expected.getB());
+        Assert.assertEquals(actual.getC(), expected.getC());
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testFullBlock() {
+        EquationBlock block = new EquationBlock(1);
+        block.add(1, 2, 1);
+        block.add(1, 2, 1);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void testMissingEquation() {
+        new EquationBlock(2).cursor().moveTo(0);
+    }
+}
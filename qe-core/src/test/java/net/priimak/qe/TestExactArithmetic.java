@@ -0,0 +1,37 @@
+package net.priimak.qe;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public final class TestExactArithmetic {
+    /**
+     * Sum must be the exact sum correctly rounded to nearest, including terms cancelling each other and sums right
+     * next to the ties.
+     */
+    @Test
+    public void testSumIsCorrectlyRounded() {
+        Random random = new Random(5);
+        double[] terms = new double[QuadraticEquationEvaluator.EXACT_TERMS];
+        for (int i = 0; i < 20000; i++) {
+            BigDecimal exact = BigDecimal.ZERO;
+            for (int j = 0; j < terms.length; j++) {
+                double term = Math.scalb((double) (random.nextLong() >> random.nextInt(64)), random.nextInt(200) - 100);
+                terms[j] = random.nextBoolean() || j == 0 ? term : -terms[random.nextInt(j)] + term * 0x1p-60;
+                exact = exact.add(new BigDecimal(terms[j]));
+            }
+            String message = exact.toString();
+            Assert.assertEquals(ExactArithmetic.sum(terms, terms.length), exact.doubleValue(), 0, message);
+        }
+    }
+
+    @Test
+    public void testSumOfTies() {
+        Assert.assertEquals(ExactArithmetic.sum(new double[] {1, 0x1p-53, 0x1p-100}, 3), 1 + 0x1p-52);
+        Assert.assertEquals(ExactArithmetic.sum(new double[] {1, 0x1p-53, -0x1p-100}, 3), 1.0D);
+        Assert.assertEquals(ExactArithmetic.sum(new double[] {1 + 0x1p-52, 0x1p-53}, 2), 1 + 0x1p-51);
+        Assert.assertEquals(ExactArithmetic.sum(new double[] {1, 0x1p-53}, 2), 1.0D);
+        Assert.assertEquals(ExactArithmetic.sum(new double[] {1, -1}, 2), 0.0D);
+    }
+}
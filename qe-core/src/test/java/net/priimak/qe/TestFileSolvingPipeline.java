@@ -0,0 +1,88 @@
+package net.priimak.qe;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import net.priimak.numeric.RootSet;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public final class TestFileSolvingPipeline {
+    @Test
+    public void testPipeline() throws IOException {
+        testPipeline(false);
+    }
+
+    @Test
+    public void testPipelineWithErrors() throws IOException {
+        testPipeline(true);
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void testTruncatedInput() throws IOException {
+        Path input = Files.createTempFile("equations", ".bin");
+        Path output = Files.createTempFile("roots", ".bin");
+        try {
+            Files.write(input, new byte[FileSolvingPipeline.INPUT_RECORD_SIZE + 1]);
+            new FileSolvingPipeline(CitardauqQuadraticEquationSolver.INSTANCE, 16, false).run(input, output);
+        } finally {
+            Files.delete(input);
+            Files.delete(output);
+        }
+    }
+
+    /**
+     * Solutions written by the pipeline in blocks that do not divide number of equations must be identical to the
+     * ones of the batch solver.
+     */
+    private static void testPipeline(boolean withErrors) throws IOException {
+        double[][] coefficients = TestBatchSolvers.equations();
+        int length = withErrors ? 1000 : coefficients[0].length;
+        Path input = Files.createTempFile("equations", ".bin");
+        Path output = Files.createTempFile("roots", ".bin");
+        try {
+            ByteBuffer inputBuffer = ByteBuffer.allocate(length * FileSolvingPipeline.INPUT_RECORD_SIZE)
+                .order(ByteOrder.LITTLE_ENDIAN);
+            for (int i = 0; i < length; i++) {
+                inputBuffer.putDouble(coefficients[0][i]).putDouble(coefficients[1][i]).putDouble(coefficients[2][i]);
+            }
+            Files.write(input, inputBuffer.array());
+
+            FileSolvingPipeline.Statistics statistics =
+                new FileSolvingPipeline(CitardauqQuadraticEquationSolver.INSTANCE, 333, withErrors).run(input, output);
+            Assert.assertEquals(statistics.getEquations(), length);
+
+            double[] root1 = new double[length];
+            double[] root2 = new double[length];
+            int[] rootCount = new int[length];
+            byte[] status = new byte[length];
+            CitardauqQuadraticEquationSolver.INSTANCE.solve(
+                coefficients[0], coefficients[1], coefficients[2], 0, length, root1, root2, rootCount, status
+            );
+            ByteBuffer outputBuffer = ByteBuffer.wrap(Files.readAllBytes(output)).order(ByteOrder.LITTLE_ENDIAN);
+            int recordSize = withErrors
+                ? FileSolvingPipeline.OUTPUT_RECORD_WITH_ERRORS_SIZE
+                : FileSolvingPipeline.OUTPUT_RECORD_SIZE;
+            Assert.assertEquals(outputBuffer.remaining(), length * recordSize);
+            for (int i = 0; i < length; i++) {
+                int position = i * recordSize;
+                Assert.assertEquals(outputBuffer.get(position), rootCount[i]);
+                Assert.assertEquals(outputBuffer.get(position + 1), status[i]);
+                Assert.assertEquals(outputBuffer.getDouble(position + 8), root1[i]);
+                Assert.assertEquals(outputBuffer.getDouble(position + 16), root2[i]);
+                if (withErrors && rootCount[i] > 0) {
+                    double[] roots = rootCount[i] == 1 ? new double[] {root1[i]} : new double[] {root1[i], root2[i]};
+                    RootSet expected = QuadraticEquation.deduceErrors(
+                        new QuadraticEquation(coefficients[0][i], coefficients[1][i], coefficients[2][i]), roots
+                    );
+                    Assert.assertEquals(outputBuffer.getDouble(position + 24), expected.getError(0));
+                }
+            }
+        } finally {
+            Files.delete(input);
+            Files.delete(output);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package net.priimak.qe;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public final class TestLogLinearHistogram {
+    @Test
+    public void testHistogramBuckets() {
+        long previousUpperBound = -1;
+        for (long value = 0; value < 1_000_000; value += 1 + value / 100) {
+            int index = LogLinearHistogram.index(value);
+            long upperBound = LogLinearHistogram.upperBound(index);
+            Assert.assertTrue(upperBound >= value && upperBound >= previousUpperBound, String.valueOf(value));
+            Assert.assertTrue(upperBound - value <= Math.max(0, value >> LogLinearHistogram.SUB_BUCKET_BITS));
+            previousUpperBound = upperBound;
+        }
+        Assert.assertEquals(LogLinearHistogram.upperBound(LogLinearHistogram.index(Long.MAX_VALUE)), Long.MAX_VALUE);
+    }
+
+    @Test
+    public void testHistogramPercentiles() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        Assert.assertEquals(histogram.getCount(), 1000);
+        Assert.assertEquals(histogram.getMax(), 1_000_000);
+        Assert.assertEquals(histogram.getMean(), 500_500, 1.0E-9);
+        Assert.assertEquals(histogram.getValueAtPercentile(50), 500_000, 500_000 >> LogLinearHistogram.SUB_BUCKET_BITS);
+        Assert.assertEquals(histogram.getValueAtPercentile(99), 990_000, 990_000 >> LogLinearHistogram.SUB_BUCKET_BITS);
+        Assert.assertEquals(histogram.getValueAtPercentile(100), 1_000_000);
+        histogram.reset();
+        Assert.assertEquals(histogram.getValueAtPercentile(50), 0);
+    }
+}
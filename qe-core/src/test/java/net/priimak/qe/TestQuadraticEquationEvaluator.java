@@ -0,0 +1,155 @@
+package net.priimak.qe;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public final class TestQuadraticEquationEvaluator {
+    @Test
+    public void testComputeAtRoots() throws OutOfNumericRange {
+        QuadraticEquationSolver solver = QuadraticEquationSolverFactory.getSolver(QuadraticEquationSolver.Type.CITARDAUQ);
+        for (QuadraticEquation equation : TestSolvers.EQUATIONS) {
+            try {
+                for (double root : solver.solve(equation)) {
+                    assertExact(equation, root);
+                    assertExact(equation, Math.nextUp(root));
+                    assertExact(equation, Math.nextDown(root));
+                }
+            } catch (OutOfNumericRange outOfNumericRange) {
+                // nothing to evaluate
+            }
+        }
+    }
+
+    @Test
+    public void testComputeIsCorrectlyRounded() {
+        assertExact(new QuadraticEquation(0.01210397855610649, -5.076666051144689, 0.8757753511360801), 419.2486884774506);
+        // ties of the largest components broken by the smallest one
+        assertExact(new QuadraticEquation(0, 1, 0x1p-53 + 0x1p-100), 1);
+        assertExact(new QuadraticEquation(0, 1, -0x1p-54 - 0x1p-100), 1);
+        assertExact(new QuadraticEquation(0, 1, 0x1p-53), 1);
+    }
+
+    @Test
+    public void testComputeAtRandomPoints() {
+        Random random = new Random(7);
+        for (int i = 0; i < 2000; i++) {
+            QuadraticEquation equation = new QuadraticEquation(
+                random.nextGaussian() * Math.pow(10, random.nextInt(61) - 30),
+                random.nextGaussian() * Math.pow(10, random.nextInt(61) - 30),
+                random.nextGaussian() * Math.pow(10, random.nextInt(61) - 30)
+            );
+            assertExact(equation, random.nextGaussian() * Math.pow(10, random.nextInt(61) - 30));
+        }
+    }
+
+    @Test
+    public void testComputeOverGrid() {
+        Random random = new Random(11);
+        int size = 1000;
+        double[] x = new double[size + 2];
+        double[] y = new double[size + 2];
+        for (int i = 0; i < 50; i++) {
+            QuadraticEquation equation = new QuadraticEquation(
+                random.nextGaussian() * Math.pow(10, random.nextInt(21) - 10),
+                random.nextGaussian() * Math.pow(10, random.nextInt(21) - 10),
+                random.nextGaussian() * Math.pow(10, random.nextInt(21) - 10)
+            );
+            for (int j = 0; j < x.length; j++) {
+                x[j] = random.nextGaussian() * Math.pow(10, random.nextInt(21) - 10);
+            }
+            y[0] = y[size + 1] = -1;
+            QuadraticEquationEvaluator.compute(equation, x, 1, size, y, true);
+            Assert.assertEquals(y[0], -1.0);
+            Assert.assertEquals(y[size + 1], -1.0);
+            for (int j = 1; j <= size; j++) {
+                Assert.assertEquals(y[j], correctlyRounded(equation.getA(), equation.getB(), equation.getC(), x[j]), 0);
+            }
+            QuadraticEquationEvaluator.compute(equation, x, 1, size, y, false);
+            for (int j = 1; j <= size; j++) {
+                assertHornerAccurate(equation.getA(), equation.getB(), equation.getC(), x[j], y[j]);
+            }
+        }
+    }
+
+    @Test
+    public void testComputeAtBatchRoots() {
+        Random random = new Random(13);
+        int size = 2000;
+        double[] a = new double[size];
+        double[] b = new double[size];
+        double[] c = new double[size];
+        for (int i = 0; i < size; i++) {
+            a[i] = random.nextGaussian();
+            b[i] = random.nextGaussian() * Math.pow(10, random.nextInt(9));
+            c[i] = random.nextGaussian();
+        }
+        double[] root1 = new double[size];
+        double[] root2 = new double[size];
+        QuadraticEquationSolverFactory.getSolver(QuadraticEquationSolver.Type.CITARDAUQ)
+            .solve(a, b, c, 0, size, root1, root2, new int[size], new byte[size]);
+        double[] y = new double[size];
+        QuadraticEquationEvaluator.compute(a, b, c, root1, 0, size, y, false);
+        for (int i = 0; i < size; i++) {
+            if (Double.isNaN(root1[i])) {
+                Assert.assertTrue(Double.isNaN(y[i]));
+            } else {
+                assertHornerAccurate(a[i], b[i], c[i], root1[i], y[i]);
+            }
+        }
+        // in place evaluation overwrites points next to roots, where residuals are tiny, with residuals
+        double[] residuals = new double[size];
+        for (int i = 0; i < size; i++) {
+            residuals[i] = Math.nextUp(root1[i]);
+        }
+        QuadraticEquationEvaluator.compute(a, b, c, residuals, 0, size, residuals, true);
+        for (int i = 0; i < size; i++) {
+            if (Double.isNaN(root1[i])) {
+                Assert.assertTrue(Double.isNaN(residuals[i]));
+            } else {
+                Assert.assertEquals(residuals[i], correctlyRounded(a[i], b[i], c[i], Math.nextUp(root1[i])), 0);
+            }
+        }
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void testComputeOutOfRange() {
+        QuadraticEquationEvaluator.compute(new QuadraticEquation(1, 2, 3), new double[10], 5, 6, new double[11], false);
+    }
+
+    /**
+     * Value computed by Horner scheme must be within few ulps of |ax^2| + |bx| + |c| of the exact value.
+     */
+    private static void assertHornerAccurate(double a, double b, double c, double x, double value) {
+        double expected = exact(a).multiply(exact(x)).multiply(exact(x)).add(exact(b).multiply(exact(x)))
+            .add(exact(c)).doubleValue();
+        double magnitude = Math.abs(a * x * x) + Math.abs(b * x) + Math.abs(c);
+        Assert.assertEquals(value, expected, 4 * Math.ulp(magnitude), a + ", " + b + ", " + c + " at " + x);
+    }
+
+    /**
+     * Value computed by the {@link QuadraticEquationEvaluator#compute(QuadraticEquation, double)} must be the exact
+     * value correctly rounded to nearest, but never 0 unless exact value is 0.
+     */
+    private static void assertExact(QuadraticEquation equation, double x) {
+        double expected = correctlyRounded(equation.getA(), equation.getB(), equation.getC(), x);
+        double value = QuadraticEquationEvaluator.compute(equation, x);
+        String message = equation + " at " + x;
+        Assert.assertEquals(Math.signum(value), Math.signum(expected), message);
+        Assert.assertEquals(value, expected, 0, message);
+    }
+
+    /**
+     * @return exact value of ax^2 + bx + c rounded to nearest, or to {@code Double.MIN_VALUE} of its sign if it
+     *         underflows.
+     */
+    private static double correctlyRounded(double a, double b, double c, double x) {
+        BigDecimal exact = exact(a).multiply(exact(x)).multiply(exact(x)).add(exact(b).multiply(exact(x))).add(exact(c));
+        return exact.doubleValue() == 0 ? exact.signum() * Double.MIN_VALUE : exact.doubleValue();
+    }
+
+    private static BigDecimal exact(double x) {
+        return new BigDecimal(x);
+    }
+}
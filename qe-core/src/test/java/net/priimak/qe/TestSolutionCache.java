@@ -0,0 +1,148 @@
+package net.priimak.qe;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public final class TestSolutionCache {
+    @Test
+    public void testHitsAndMisses() throws OutOfNumericRange {
+        SolutionCache<double[]> cache = new SolutionCache<>(16);
+        QuadraticEquationSolver solver = QuadraticEquationSolverFactory.getCachingSolver(
+            QuadraticEquationSolverFactory.getSolver(QuadraticEquationSolver.Type.CITARDAUQ), cache
+        );
+        for (QuadraticEquation equation : TestSolvers.EQUATIONS.subList(0, 8)) {
+            double[] expected = QuadraticEquationSolverFactory.getSolver(QuadraticEquationSolver.Type.CITARDAUQ)
+                .solve(equation);
+            Assert.assertEquals(solver.solve(equation), expected);
+            double[] cached = solver.solve(equation);
+            Assert.assertEquals(cached, expected);
+            // callers must not be able to corrupt cached solutions
+            if (cached.length > 0) {
+                cached[0] = Double.NaN;
+                Assert.assertEquals(solver.solve(equation), expected);
+            }
+        }
+        Assert.assertEquals(cache.getMissCount(), 8);
+        Assert.assertTrue(cache.getHitCount() >= 8);
+        Assert.assertEquals(cache.size(), 8);
+    }
+
+    @Test
+    public void testParametersAreComparedByBits() throws OutOfNumericRange {
+        SolutionCache<String> cache = new SolutionCache<>(16);
+        Assert.assertEquals(cache.get(0.0D, 1, 1, () -> "positive zero"), "positive zero");
+        Assert.assertEquals(cache.get(-0.0D, 1, 1, () -> "negative zero"), "negative zero");
+        Assert.assertEquals(cache.get(0.0D, 1, 1, 1.0E-20, () -> "with parameter"), "with parameter");
+        Assert.assertEquals(cache.get(0.0D, 1, 1, () -> "miss"), "positive zero");
+        Assert.assertEquals(cache.getMissCount(), 3);
+        Assert.assertEquals(cache.getHitCount(), 1);
+    }
+
+    @Test
+    public void testEviction() throws OutOfNumericRange {
+        SolutionCache<Integer> cache = new SolutionCache<>(100, 4);
+        for (int i = 0; i < 1000; i++) {
+            int value = i;
+            cache.get(i, 1, 1, () -> value);
+        }
+        Assert.assertEquals(cache.size(), 100);
+        Assert.assertEquals(cache.getEvictionCount(), 900);
+    }
+
+    @Test
+    public void testOverflowIsCached() {
+        SolutionCache<double[]> cache = new SolutionCache<>(16);
+        AtomicInteger computations = new AtomicInteger();
+        for (int i = 0; i < 2; i++) {
+            try {
+                cache.get(1, 2, 3, () -> {
+                    computations.incrementAndGet();
+                    throw new OutOfNumericRange();
+                });
+                Assert.fail("Overflow is expected");
+            } catch (OutOfNumericRange outOfNumericRange) {
+                // expected
+            }
+        }
+        Assert.assertEquals(computations.get(), 1);
+    }
+
+    /**
+     * Caching batch solver must solve misses with the batch solver of the decorated one and report overflows, cached
+     * or not, by status.
+     */
+    @Test
+    public void testBatchOverflowIsCached() {
+        QuadraticEquationSolver batchOnly = new QuadraticEquationSolver() {
+            @Override
+            public double[] solve(QuadraticEquation equation) {
+                throw new AssertionError("Batch solver must not solve equations one by one");
+            }
+
+            @Override
+            public void solve(double[] a, double[] b, double[] c, int offset, int length,
+                              double[] root1, double[] root2, int[] rootCount, byte[] status) {
+                CitardauqQuadraticEquationSolver.INSTANCE.solve(a, b, c, offset, length, root1, root2, rootCount, status);
+            }
+        };
+        SolutionCache<double[]> cache = new SolutionCache<>(16);
+        QuadraticEquationSolver solver = QuadraticEquationSolverFactory.getCachingSolver(batchOnly, cache);
+        double[] a = {Double.MIN_VALUE, 1};
+        double[] b = {1, -3};
+        double[] c = {1, 2};
+        for (int i = 0; i < 2; i++) {
+            double[] root1 = new double[2];
+            double[] root2 = new double[2];
+            int[] rootCount = new int[2];
+            byte[] status = new byte[2];
+            solver.solve(a, b, c, 0, 2, root1, root2, rootCount, status);
+            Assert.assertEquals(status[0], SolutionStatus.OVERFLOW.code());
+            Assert.assertEquals(rootCount[0], 0);
+            Assert.assertEquals(status[1], SolutionStatus.OK.code());
+            Assert.assertEquals(Math.min(root1[1], root2[1]), 1.0D);
+            Assert.assertEquals(Math.max(root1[1], root2[1]), 2.0D);
+        }
+        Assert.assertEquals(cache.getMissCount(), 2);
+        Assert.assertEquals(cache.getHitCount(), 2);
+        try {
+            solver.solve(new QuadraticEquation(Double.MIN_VALUE, 1, 1));
+            Assert.fail("Overflow is expected");
+        } catch (OutOfNumericRange outOfNumericRange) {
+            // cached by batch solver
+        }
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        SolutionCache<double[]> cache = new SolutionCache<>(64, 8);
+        QuadraticEquationSolver solver = QuadraticEquationSolverFactory.getCachingSolver(
+            QuadraticEquationSolverFactory.getSolver(QuadraticEquationSolver.Type.CITARDAUQ), cache
+        );
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Future<?>[] futures = new Future<?>[8];
+            for (int t = 0; t < futures.length; t++) {
+                futures[t] = executor.submit(() -> {
+                    for (int i = 0; i < 10000; i++) {
+                        QuadraticEquation equation = new QuadraticEquation(1, -(i % 128) - 3, i % 128 + 2);
+                        Assert.assertEquals(solver.solve(equation)[1], 1.0D);
+                    }
+                    return null;
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+        Assert.assertEquals(cache.getHitCount() + cache.getMissCount(), 80000);
+        Assert.assertTrue(cache.size() <= 64);
+    }
+}
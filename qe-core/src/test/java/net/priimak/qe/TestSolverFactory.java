@@ -0,0 +1,83 @@
+package net.priimak.qe;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+public final class TestSolverFactory {
+    /**
+     * Without {@code qe-precise} module on the class path solvers that need arbitrary precision must be reported as not
+     * available and refused by factory rather than replaced by solvers of lower precision.
+     */
+    @Test
+    public void testPreciseSolversAreNotAvailable() {
+        if (QuadraticEquationSolverFactory.getPreciseSolverProvider() != null) {
+            throw new SkipException("qe-precise module is on the class path");
+        }
+        for (QuadraticEquationSolver.Type type : QuadraticEquationSolver.Type.values()) {
+            boolean precise = type == QuadraticEquationSolver.Type.SIMPLE_AP
+                || type == QuadraticEquationSolver.Type.ADAPTIVE;
+            Assert.assertEquals(QuadraticEquationSolverFactory.isAvailable(type), !precise, type.toString());
+            if (!precise) {
+                Assert.assertNotNull(QuadraticEquationSolverFactory.getSolver(type), type.toString());
+                continue;
+            }
+            try {
+                QuadraticEquationSolverFactory.getSolver(type);
+                Assert.fail(type + " solver must not be available");
+            } catch (UnsupportedOperationException e) {
+                Assert.assertTrue(e.getMessage().contains(type.toString()), e.getMessage());
+            }
+        }
+        try {
+            QuadraticEquationSolverFactory.getAdaptiveSolver(1.0E-10);
+            Assert.fail("Adaptive solver must not be available");
+        } catch (UnsupportedOperationException e) {
+            // solver of the last resort has to be given explicitly
+        }
+    }
+
+    /**
+     * Equations that cannot be solved even in double-double arithmetic must be solved by the solver of the last resort
+     * given to factory, both one by one and in batch.
+     */
+    @Test
+    public void testExplicitLastResort() throws OutOfNumericRange {
+        AtomicInteger calls = new AtomicInteger();
+        QuadraticEquationSolver extendedRange =
+            QuadraticEquationSolverFactory.getSolver(QuadraticEquationSolver.Type.EXTENDED_RANGE);
+        QuadraticEquationSolver lastResort = equation -> {
+            calls.incrementAndGet();
+            return extendedRange.solve(equation);
+        };
+        QuadraticEquationSolver solver = QuadraticEquationSolverFactory.getAdaptiveSolver(1.0E-14, lastResort);
+
+        solver.solve(new QuadraticEquation(1, -3, 2));
+        Assert.assertEquals(calls.get(), 0);
+        // exponent of b is too far from the ones of a and c for the double-double arithmetic
+        QuadraticEquation equation = new QuadraticEquation(
+            -3.394044349932693E-180, -2.248787459929394E-291, 1.7565766527354036E-159
+        );
+        double[] roots = solver.solve(equation);
+        Assert.assertEquals(calls.get(), 1);
+        Assert.assertEquals(roots, extendedRange.solve(equation));
+
+        double[] root1 = new double[1];
+        double[] root2 = new double[1];
+        int[] rootCount = new int[1];
+        byte[] status = new byte[1];
+        solver.solve(
+            new double[] {equation.getA()}, new double[] {equation.getB()}, new double[] {equation.getC()}, 0, 1,
+            root1, root2, rootCount, status
+        );
+        Assert.assertEquals(calls.get(), 2);
+        Assert.assertEquals(status[0], SolutionStatus.OK.code());
+        Assert.assertEquals(new double[] {root1[0], root2[0]}, roots);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testLastResortIsRequired() {
+        QuadraticEquationSolverFactory.getAdaptiveSolver(1.0E-10, null);
+    }
+}
@@ -0,0 +1,184 @@
+package net.priimak.qe;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import net.priimak.numeric.RootSet;
+import net.priimak.numeric.Value;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public final class TestSolvers {
+    /**
+     * We will be testing different solvers against these equations. Please add more here if so desired.
+     */
+    static final List<QuadraticEquation> EQUATIONS = Arrays.asList(
+        new QuadraticEquation(-1.0E-30, 1.1E122D, 8.0D),
+        new QuadraticEquation(Math.PI, 1.12312412414E122D, 1.298791481E-100D),
+        new QuadraticEquation(Math.PI * 1.0E-100, 1.12312412414E122D, 1.298791481E-100D),
+        new QuadraticEquation(Math.PI * 1.0E-100, 1.12312412414E-22D, 1.298791481E-100D),
+        new QuadraticEquation(-1, 1, 1),
+        new QuadraticEquation(0, 0, 0),
+        new QuadraticEquation(1, 1, 1),
+        new QuadraticEquation(1, 1, 0),
+        new QuadraticEquation(1, 0, 1),
+        new QuadraticEquation(0, 1, 1),
+        new QuadraticEquation(0, 0, 1),
+        new QuadraticEquation(0, 1, 0),
+        new QuadraticEquation(1, 0, 0),
+
+        new QuadraticEquation(1, -3, 2),
+        new QuadraticEquation(1e200, -3e200, 2e200),
+        new QuadraticEquation(1e-200, -3e-200, 2e-200),
+        new QuadraticEquation(-1e200, 3e200, -2e200),
+        new QuadraticEquation(-1e-200, 3e-200, -2e-200),
+
+        new QuadraticEquation(-1e-200, 3e-200, 2e-199),
+        new QuadraticEquation(-1e-200, 3e-201, 2e97),
+
+        new QuadraticEquation(1.0, -2.000000028975950, 1.000000028975950),
+        new QuadraticEquation(1.0, -2.000000028975951, 1.000000028975951),
+        new QuadraticEquation(1.0, -2.000000028975952, 1.000000028975952),
+        new QuadraticEquation(1.0, -2.000000028975953, 1.000000028975953),
+        new QuadraticEquation(1.0, -2.000000028975954, 1.000000028975954),
+        new QuadraticEquation(1.0, -2.000000028975955, 1.000000028975955),
+        new QuadraticEquation(1.0, -2.000000028975956, 1.000000028975956),
+        new QuadraticEquation(1.0, -2.000000028975957, 1.000000028975957),
+        new QuadraticEquation(1.0, -2.000000028975958, 1.000000028975958),
+        new QuadraticEquation(1.0, -2.000000028975959, 1.000000028975959),
+        new QuadraticEquation(1.0, -2.000000028975960, 1.000000028975960),
+        new QuadraticEquation(1.0, -2.000000028975961, 1.000000028975961),
+        new QuadraticEquation(1.0, -2.000000028975962, 1.000000028975962),
+        new QuadraticEquation(1.0, -2.000000028975963, 1.000000028975963),
+        new QuadraticEquation(1.0, -2.000000028975964, 1.000000028975964),
+        new QuadraticEquation(1.0, -2.000000028975965, 1.000000028975965),
+        new QuadraticEquation(1.0, -2.000000028975966, 1.000000028975966),
+        new QuadraticEquation(1.0, -2.000000028975967, 1.000000028975967),
+        new QuadraticEquation(1.0, -2.000000028975968, 1.000000028975968),
+        new QuadraticEquation(1.0, -2.000000028975969, 1.000000028975969)
+    );
+
+    /**
+     * Maximum relative error of the computed root computed by the dividing error by the value of the root or the
+     * smallest possible value for double.
+     */
+    static final double MAXIMUM_RELATIVE_ERROR = 1.0E-20;
+
+    @Test(enabled = false)
+    public void testCitardauqSolver() {
+        testSolver(QuadraticEquationSolverFactory.getSolver(QuadraticEquationSolver.Type.CITARDAUQ));
+    }
+
+    /**
+     * Double-double refinement, whenever it is sufficient, must find as many roots as there are according to the sign
+     * of exact discriminant and value of quadratic formulae must change its sign within error of every root.
+     */
+    @Test
+    public void testDoubleDoubleRefinement() throws OutOfNumericRange {
+        for (QuadraticEquation equation : EQUATIONS) {
+            RootSet rootSet = DoubleDoubleRefinement.solve(equation, MAXIMUM_RELATIVE_ERROR);
+            if (rootSet == null) {
+                continue;
+            }
+            List<Value<Double>> roots = rootSet.toValues();
+            if (equation.getA() != 0 && equation.getB() != 0 && equation.getC() != 0) {
+                Assert.assertEquals(roots.size(), 1 + discriminantSign(equation), equation.toString());
+            }
+            for (Value<Double> root : roots) {
+                double x = root.getValue();
+                double sign = Math.signum(QuadraticEquationEvaluator.compute(equation, x));
+                if (sign != 0 && changesSign(equation)) {
+                    Assert.assertTrue(
+                        Math.signum(QuadraticEquationEvaluator.compute(equation, x - root.getError())) != sign
+                            || Math.signum(QuadraticEquationEvaluator.compute(equation, x + root.getError())) != sign,
+                        equation + " : root = " + root
+                    );
+                }
+            }
+        }
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testDeduceErrorsConvention() throws OutOfNumericRange {
+        QuadraticEquationSolver solver = QuadraticEquationSolverFactory.getSolver(QuadraticEquationSolver.Type.CITARDAUQ);
+        for (QuadraticEquation equation : EQUATIONS) {
+            double[] roots = solver.solve(equation);
+            RootSet rootSet = QuadraticEquation.deduceErrors(equation, roots);
+            double[] packed = QuadraticEquation.deduceError(equation, roots);
+            Assert.assertEquals(rootSet.size(), roots.length);
+            for (int i = 0; i < roots.length; i++) {
+                Assert.assertEquals(rootSet.getRoot(i), packed[i]);
+                Assert.assertEquals(rootSet.getError(i), packed[roots.length + i]);
+            }
+        }
+    }
+
+    @Test
+    public void testDeduceError() {
+        testDeduceError(QuadraticEquationSolverFactory.getSolver(QuadraticEquationSolver.Type.CITARDAUQ));
+        testDeduceError(QuadraticEquationSolverFactory.getSolver(QuadraticEquationSolver.Type.SIMPLE));
+    }
+
+    /**
+     * Error must never be negative and value of quadratic formulae must change sign within error from the root if
+     * it changes sign at all.
+     */
+    private static void testDeduceError(QuadraticEquationSolver solver) {
+        for (QuadraticEquation equation : EQUATIONS) {
+            try {
+                RootSet roots = QuadraticEquation.deduceErrors(equation, solver.solve(equation));
+                for (int i = 0; i < roots.size(); i++) {
+                    double root = roots.getRoot(i);
+                    double error = roots.getError(i);
+                    Assert.assertTrue(error >= 0, equation + " : root = " + root + " ± " + error);
+                    if (error > 0 && changesSign(equation)
+                        && Double.isFinite(root - error) && Double.isFinite(root + error)) {
+                        double sign = Math.signum(QuadraticEquationEvaluator.compute(equation, root));
+                        Assert.assertTrue(
+                            Math.signum(QuadraticEquationEvaluator.compute(equation, root - error)) != sign
+                                || Math.signum(QuadraticEquationEvaluator.compute(equation, root + error)) != sign,
+                            equation + " : root = " + root + " ± " + error
+                        );
+                    }
+                }
+            } catch (OutOfNumericRange outOfNumericRange) {
+                // nothing to check
+            }
+        }
+    }
+
+    static boolean changesSign(QuadraticEquation equation) {
+        return equation.getA() == 0 ? equation.getB() != 0 : discriminantSign(equation) > 0;
+    }
+
+    /**
+     * @return sign of the exact discriminant b^2 - 4ac.
+     */
+    static int discriminantSign(QuadraticEquation equation) {
+        BigDecimal a = new BigDecimal(equation.getA());
+        BigDecimal b = new BigDecimal(equation.getB());
+        BigDecimal c = new BigDecimal(equation.getC());
+        return b.multiply(b).subtract(a.multiply(c).multiply(BigDecimal.valueOf(4))).signum();
+    }
+
+    static void testSolver(QuadraticEquationSolver solver) {
+        System.out.println(String.format("\nTesting %s", solver.getClass().getSimpleName()));
+        for (QuadraticEquation equation : EQUATIONS) {
+            try {
+                RootSet roots = QuadraticEquation.deduceErrors(equation, solver.solve(equation));
+                for (int i = 0; i < roots.size(); i++) {
+                    double root = roots.getRoot(i);
+                    double value = QuadraticEquationEvaluator.compute(equation, root);
+                    double error = roots.getError(i);
+                    System.out.println(equation + " : root = [" + root + " ± " + error + "] -> " + value);
+                    double relativeError = Math.abs(error / (root == 0 ? Double.MIN_VALUE : root));
+                    Assert.assertEquals(relativeError < MAXIMUM_RELATIVE_ERROR, true,
+                        String.format("Relative error %s is greater than %s", relativeError, MAXIMUM_RELATIVE_ERROR));
+                }
+            } catch (OutOfNumericRange outOfNumericRange) {
+                Assert.fail(outOfNumericRange.getMessage());
+            }
+        }
+    }
+}
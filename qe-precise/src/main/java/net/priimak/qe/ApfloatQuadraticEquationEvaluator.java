@@ -0,0 +1,24 @@
+package net.priimak.qe;
+
+import org.apfloat.Apfloat;
+
+/**
+ * Counterpart of the {@link QuadraticEquationEvaluator} evaluating quadratic formulae in Apfloat arithmetic.
+ */
+public final class ApfloatQuadraticEquationEvaluator {
+    private ApfloatQuadraticEquationEvaluator() {
+        throw new AssertionError();
+    }
+
+    public static Apfloat compute(QuadraticCoefficients equation, Apfloat x) {
+        return compute(equation, x, PrecisionContext.DEFAULT_REFINEMENT);
+    }
+
+    /**
+     * Evaluate ax^2 + bx + c with parameters converted to Apfloat at the precision of the given context.
+     */
+    public static Apfloat compute(QuadraticCoefficients equation, Apfloat x, PrecisionContext context) {
+        return context.valueOf(equation.getA()).multiply(x).add(context.valueOf(equation.getB())).multiply(x)
+            .add(context.valueOf(equation.getC()));
+    }
+}
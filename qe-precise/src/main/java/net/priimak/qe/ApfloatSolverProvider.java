@@ -0,0 +1,17 @@
+package net.priimak.qe;
+
+/**
+ * {@link PreciseSolverProvider} of the solvers computing in Apfloat arithmetic at the default precision. It is
+ * registered in {@code META-INF/services} and is not meant to be used directly.
+ */
+public final class ApfloatSolverProvider implements PreciseSolverProvider {
+    @Override
+    public QuadraticEquationSolver getSimpleSolver() {
+        return SimpleApQuadraticEquationSolver.INSTANCE;
+    }
+
+    @Override
+    public QuadraticEquationSolver getCitardauqSolver() {
+        return CitardauqQuadraticApEquationSolver.INSTANCE;
+    }
+}
@@ -0,0 +1,92 @@
+package net.priimak.qe;
+
+import org.apfloat.Apfloat;
+import org.apfloat.ApfloatMath;
+
+/**
+ * Solver that solves quadratic equation using Citardauq formulae in Apfloat arithmetic at the precision of its
+ * {@link PrecisionContext}. Before computing roots, equation is simplified by passing it through
+ * {@link QuadraticEquation#simplify(QuadraticEquation)}.
+ */
+final class CitardauqQuadraticApEquationSolver implements QuadraticEquationSolver {
+    /**
+     * Instance of {@link CitardauqQuadraticApEquationSolver} using {@link PrecisionContext#DEFAULT_SOLVER_PRECISION}.
+     */
+    static final CitardauqQuadraticApEquationSolver INSTANCE =
+        new CitardauqQuadraticApEquationSolver(PrecisionContext.DEFAULT_SOLVER);
+
+    private final PrecisionContext context;
+
+    CitardauqQuadraticApEquationSolver(PrecisionContext context) {
+        this.context = context;
+    }
+
+    @Override
+    public double[] solve(QuadraticEquation equation) throws OutOfNumericRange {
+        long startTime = SolverMetrics.startTime();
+        try {
+            double[] result = QuadraticEquationSolverFactory.handleCornerCases(equation);
+            return result != null ? result : solveWithApfloat(equation);
+        } finally {
+            SolverMetrics.recordTime(SolverMetrics.Distribution.CITARDAUQ_AP_NANOS, startTime);
+        }
+    }
+
+    /**
+     * Overridden so that overflows are reported by status codes without ever throwing {@link OutOfNumericRange}.
+     */
+    @Override
+    public void solve(double[] a, double[] b, double[] c, int offset, int length,
+                      double[] root1, double[] root2, int[] rootCount, byte[] status) {
+        QuadraticEquationSolverFactory.checkBatchRange(offset, length, a, b, c, root1, root2, rootCount, status);
+        for (int i = offset; i < offset + length; i++) {
+            long startTime = SolverMetrics.startTime();
+            if (!QuadraticEquationSolverFactory.handleCornerCases(a[i], b[i], c[i], i, root1, root2, rootCount, status)) {
+                double[] roots = solveWithApfloat(new QuadraticEquation(a[i], b[i], c[i]));
+                QuadraticEquationSolverFactory.storeRoots(
+                    i, roots.length,
+                    roots.length > 0 ? roots[0] : Double.NaN,
+                    roots.length > 1 ? roots[1] : Double.NaN,
+                    root1, root2, rootCount, status
+                );
+            }
+            SolverMetrics.recordTime(SolverMetrics.Distribution.CITARDAUQ_AP_NANOS, startTime);
+        }
+    }
+
+    PrecisionContext getContext() {
+        return context;
+    }
+
+    /**
+     * Solve equation which is not a corner case. Roots that do not fit into double are returned as infinities.
+     */
+    private double[] solveWithApfloat(QuadraticEquation equation) {
+        QuadraticEquation simplifiedEquation = QuadraticEquation.simplify(equation);
+        Apfloat a = context.valueOf(simplifiedEquation.getA());
+        Apfloat b = context.valueOf(simplifiedEquation.getB());
+        Apfloat c = context.valueOf(simplifiedEquation.getC());
+        // ax^2 + bx + c = 0
+        Apfloat discriminant = b.multiply(b).subtract(context.four.multiply(a).multiply(c));
+        SolverMetrics.countDiscriminant(discriminant.signum());
+        if (discriminant.signum() < 0) {
+            return QuadraticEquationSolverFactory.NO_SOLUTIONS;
+        } else if (discriminant.signum() == 0) {
+            return new double[] {PrecisionContext.doubleValue(b.divide(a).divide(context.minusTwo))};
+        }
+        Apfloat sqrt = ApfloatMath.sqrt(discriminant);
+        if (b.signum() > 0) {
+            Apfloat discriminantPart = context.zero.subtract(b.add(sqrt));
+            return new double[] {
+                PrecisionContext.doubleValue(context.two.multiply(c).divide(discriminantPart)),
+                PrecisionContext.doubleValue(discriminantPart.divide(a).divide(context.two))
+            };
+        } else { // b < 0
+            Apfloat discriminantPart = context.zero.subtract(b.subtract(sqrt));
+            return new double[] {
+                PrecisionContext.doubleValue(discriminantPart.divide(a).divide(context.two)),
+                PrecisionContext.doubleValue(context.two.multiply(c).divide(discriminantPart))
+            };
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package net.priimak.qe;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import net.priimak.numeric.DoubleValue;
+import net.priimak.numeric.RootSet;
+import net.priimak.numeric.Value;
+import org.apfloat.Apfloat;
+import org.apfloat.ApfloatMath;
+
+public enum NewQadraticEquationSolver {
+    INSTANCE;
+
+    /**
+     * How roots found by the Citardauq formulae are polished to the requested relative error.
+     */
+    public enum Refinement {
+        /**
+         * Roots are found and polished with Newton iterations in double-double arithmetic, which gives about 106 bits
+         * of precision. If that is not enough to reach requested error, solver falls back to {@link #APFLOAT}.
+         */
+        DOUBLE_DOUBLE,
+
+        /**
+         * Roots are polished with Newton iterations in Apfloat arithmetic at {@link #APFLOAT_PRECESSION} digits or
+         * at the precision of the given {@link PrecisionContext}.
+         */
+        APFLOAT
+    }
+
+    public static final int APFLOAT_PRECESSION = 1000;
+
+    /**
+     * Maximum number of Newton iterations in Apfloat arithmetic per root. It is far more than iterations need even at
+     * the double root, where they converge linearly, and only guards against ones that do not converge at all.
+     */
+    static final int MAX_APFLOAT_ITERATIONS = 4096;
+
+    List<Value<Double>> solve(QuadraticEquation equation, double maxRelativeError) throws OutOfNumericRange {
+        return solve(equation, maxRelativeError, Refinement.DOUBLE_DOUBLE);
+    }
+
+    /**
+     * Same as {@link #solve(QuadraticEquation, double)} but looks solution up in the given cache first. Solutions are
+     * cached per maximum relative error and are unmodifiable.
+     */
+    List<Value<Double>> solve(QuadraticEquation equation, double maxRelativeError,
+                              SolutionCache<List<Value<Double>>> cache) throws OutOfNumericRange
+    {
+        return cache.get(
+            equation.getA(), equation.getB(), equation.getC(), maxRelativeError,
+            () -> Collections.unmodifiableList(solve(equation, maxRelativeError))
+        );
+    }
+
+    List<Value<Double>> solve(QuadraticEquation equation, double maxRelativeError, Refinement refinement)
+        throws OutOfNumericRange
+    {
+        return solveRoots(equation, maxRelativeError, refinement).toValues();
+    }
+
+    /**
+     * Same as {@link #solve(QuadraticEquation, double)} but returns roots and their errors in primitive fields of the
+     * {@link RootSet}, which unless solver falls back to Apfloat is the only object allocated for the result.
+     */
+    RootSet solveRoots(QuadraticEquation equation, double maxRelativeError) throws OutOfNumericRange {
+        return solveRoots(equation, maxRelativeError, Refinement.DOUBLE_DOUBLE);
+    }
+
+    /**
+     * Same as {@link #solveRoots(QuadraticEquation, double)} but looks solution up in the given cache first.
+     * Solutions are cached per maximum relative error.
+     */
+    RootSet solveRoots(QuadraticEquation equation, double maxRelativeError, SolutionCache<RootSet> cache)
+        throws OutOfNumericRange
+    {
+        return cache.get(
+            equation.getA(), equation.getB(), equation.getC(), maxRelativeError,
+            () -> solveRoots(equation, maxRelativeError)
+        );
+    }
+
+    RootSet solveRoots(QuadraticEquation equation, double maxRelativeError, Refinement refinement)
+        throws OutOfNumericRange
+    {
+        return solveRoots(equation, maxRelativeError, refinement, PrecisionContext.DEFAULT_REFINEMENT);
+    }
+
+    /**
+     * Same as {@link #solveRoots(QuadraticEquation, double, Refinement)} but Apfloat iterations, if any, are carried
+     * out at the precision of the given context.
+     */
+    RootSet solveRoots(QuadraticEquation equation, double maxRelativeError, Refinement refinement,
+                       PrecisionContext context) throws OutOfNumericRange
+    {
+        long startTime = SolverMetrics.startTime();
+        try {
+            if (refinement == Refinement.DOUBLE_DOUBLE) {
+                RootSet roots = DoubleDoubleRefinement.solve(equation, maxRelativeError);
+                if (roots != null) {
+                    return roots;
+                }
+                SolverMetrics.increment(SolverMetrics.Counter.APFLOAT_FALLBACK);
+            }
+            List<Value<Double>> roots = solveWithApfloat(equation, maxRelativeError, context);
+            switch (roots.size()) {
+                case 0:
+                    return RootSet.EMPTY;
+                case 1:
+                    return RootSet.of(roots.get(0).getValue(), roots.get(0).getError());
+                default:
+                    return RootSet.of(
+                        roots.get(0).getValue(), roots.get(0).getError(),
+                        roots.get(1).getValue(), roots.get(1).getError()
+                    );
+            }
+        } finally {
+            SolverMetrics.recordTime(SolverMetrics.Distribution.NEW_SOLVER_NANOS, startTime);
+        }
+    }
+
+    private static List<Value<Double>> solveWithApfloat(QuadraticEquation equation, double maxRelativeError,
+                                                        PrecisionContext context) throws OutOfNumericRange
+    {
+        QuadraticEquation simplifedEquation = QuadraticEquation.simplify(equation);
+        // initial approximations at the precision of the context too, solver holds nothing but the context
+        double[] roots = new CitardauqQuadraticApEquationSolver(context).solve(simplifedEquation);
+        if (roots.length == 0) {
+            return Collections.emptyList();
+        }
+
+        ArrayList<Apfloat> rootz = new ArrayList<>(roots.length);
+        for (double root : roots) {
+            rootz.add(context.valueOf(root));
+        }
+
+        final Apfloat twoA = context.two.multiply(context.valueOf(equation.getA()));
+        final Apfloat b = context.valueOf(equation.getB());
+        final Apfloat relativeErrorTarget = context.valueOf(maxRelativeError);
+        return rootz.stream().map(root -> {
+            Apfloat value = ApfloatQuadraticEquationEvaluator.compute(equation, root, context);
+            if (value.signum() == 0) {
+                return toValue(equation, root, root, context);
+            }
+            Apfloat x = root;
+            Apfloat previous = root;
+            for (int iterations = 1; iterations <= MAX_APFLOAT_ITERATIONS; iterations++) {
+                Apfloat derivative = twoA.multiply(x).add(b);
+                if (derivative.signum() == 0) {
+                    Apfloat otheRoot = theOtherRoot(rootz, root);
+                    if (otheRoot.equals(root) || otheRoot.compareTo(root) > 0) {
+                        x = otheRoot.subtract(context.oneTenth);
+                    } else {
+                        x = otheRoot.add(context.oneTenth);
+                    }
+                    value = ApfloatQuadraticEquationEvaluator.compute(equation, x, context);
+                    continue;
+                }
+                Apfloat xNext = x.subtract(value.divide(derivative));
+                Apfloat delta = xNext.subtract(x);
+                if (ApfloatMath.abs(delta.divide(x)).compareTo(relativeErrorTarget) < 0) {
+                    SolverMetrics.record(SolverMetrics.Distribution.APFLOAT_ITERATIONS, iterations);
+                    return toValue(equation, xNext, x, context);
+                }
+                value = ApfloatQuadraticEquationEvaluator.compute(equation, xNext, context);
+                previous = x;
+                x = xNext;
+            }
+            // did not converge, last step is the best estimate of the error there is
+            SolverMetrics.record(SolverMetrics.Distribution.APFLOAT_ITERATIONS, MAX_APFLOAT_ITERATIONS);
+            return toValue(equation, x, previous, context);
+        }).collect(Collectors.toList());
+    }
+
+    /**
+     * @return root rounded to double with error that is the distance to the previous approximation, but not less than
+     *         the one of rounding, or 0 if value of the quadratic formulae at the rounded root is exactly 0.
+     */
+    private static Value<Double> toValue(QuadraticEquation equation, Apfloat root, Apfloat previous,
+                                         PrecisionContext context)
+    {
+        double theRoot = PrecisionContext.doubleValue(root);
+        double valueInDouble = QuadraticEquationEvaluator.compute(equation, theRoot);
+        return new Value<Double>(
+            theRoot,
+            valueInDouble == 0 ?
+                0.0D :
+                Math.max(
+                    Math.abs(PrecisionContext.doubleValue(context.valueOf(theRoot).subtract(previous))),
+                    QuadraticEquation.getDelta(theRoot)
+                )
+        );
+    }
+
+    private static Apfloat theOtherRoot(List<Apfloat> roots, Apfloat root) {
+        for (Apfloat theRoot : roots) {
+            if (!theRoot.equals(root)) {
+                return theRoot;
+            }
+        }
+        return root;
+    }
+}
@@ -0,0 +1,239 @@
+package net.priimak.qe;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import net.priimak.numeric.RootSet;
+
+/**
+ * Solver of a family of quadratic equations which differ from the base equation in one parameter only, such as
+ * equations with parameter {@code c} taking values over a grid. Roots are tracked across the sweep: as long as
+ * equation keeps two distinct real roots, roots of the previous equation are used as starting points of Newton
+ * iterations in double-double arithmetic, which for a smooth sweep converge in one or two steps. Equation is solved
+ * from scratch with {@link NewQadraticEquationSolver} only at the start of the sweep, where number of roots changes
+ * and where warm start fails. Changes of the sign of the exact discriminant are reported as {@link Event}s.
+ */
+public final class ParameterSweep {
+    /**
+     * Parameter of the equation varied by the sweep.
+     */
+    public enum Parameter {
+        A, B, C
+    }
+
+    private final QuadraticEquation base;
+    private final Parameter parameter;
+    private final double maxRelativeError;
+
+    /**
+     * @param base equation providing parameters that do not vary.
+     * @param parameter parameter which varies.
+     * @param maxRelativeError maximum relative error of the roots, same as in
+     *        {@link NewQadraticEquationSolver#solveRoots(QuadraticEquation, double)}.
+     */
+    public ParameterSweep(QuadraticEquation base, Parameter parameter, double maxRelativeError) {
+        this.base = base;
+        this.parameter = parameter;
+        this.maxRelativeError = maxRelativeError;
+    }
+
+    /**
+     * Solve equations for {@code points} evenly spaced values of the parameter from {@code from} to {@code to}
+     * inclusive.
+     */
+    public Result solve(double from, double to, int points) throws OutOfNumericRange {
+        if (points < 2) {
+            throw new IllegalArgumentException("Sweep must have at least 2 points");
+        }
+        double[] values = new double[points];
+        for (int i = 0; i < points; i++) {
+            values[i] = from + (to - from) * i / (points - 1);
+        }
+        values[points - 1] = to;
+        return solve(values);
+    }
+
+    /**
+     * Solve equations for given values of the parameter in given order.
+     *
+     * @throws OutOfNumericRange if roots of any of the equations are out of range of doubles.
+     */
+    public Result solve(double[] values) throws OutOfNumericRange {
+        RootSet[] roots = new RootSet[values.length];
+        List<Event> events = new ArrayList<>();
+        int warmStarts = 0;
+        int previousSign = 0;
+        for (int i = 0; i < values.length; i++) {
+            QuadraticEquation equation = equation(values[i]);
+            int sign = QuadraticEquationEvaluator.discriminantSign(equation.getA(), equation.getB(), equation.getC());
+            RootSet previous = i > 0 ? roots[i - 1] : null;
+            RootSet solution = null;
+            if (canWarmStart(equation, sign, previous)) {
+                solution = DoubleDoubleRefinement.polish(
+                    equation, previous.getRoot(0), previous.getRoot(1), maxRelativeError
+                );
+                if (solution != null && isSwapped(solution, previous)) {
+                    solution = null;
+                }
+            }
+            if (solution == null) {
+                solution = track(NewQadraticEquationSolver.INSTANCE.solveRoots(equation, maxRelativeError), previous);
+            } else {
+                warmStarts++;
+            }
+            roots[i] = solution;
+            if (i > 0 && sign != previousSign) {
+                if (sign == 0) {
+                    events.add(new Event(i, Event.Kind.ROOTS_COALESCED));
+                } else if (sign > 0) {
+                    events.add(new Event(i, Event.Kind.ROOTS_APPEARED));
+                } else {
+                    events.add(new Event(i, Event.Kind.ROOTS_VANISHED));
+                }
+            }
+            previousSign = sign;
+        }
+        return new Result(values.clone(), roots, events, warmStarts);
+    }
+
+    private QuadraticEquation equation(double value) {
+        switch (parameter) {
+            case A:
+                return new QuadraticEquation(value, base.getB(), base.getC());
+            case B:
+                return new QuadraticEquation(base.getA(), value, base.getC());
+            default:
+                return new QuadraticEquation(base.getA(), base.getB(), value);
+        }
+    }
+
+    /**
+     * Warm start is possible only if both previous and current equations have two distinct roots and previous roots
+     * are not the exact 0 roots of the corner cases.
+     */
+    private static boolean canWarmStart(QuadraticEquation equation, int sign, RootSet previous) {
+        return sign > 0
+            && equation.getA() != 0 && equation.getB() != 0 && equation.getC() != 0
+            && previous != null && previous.size() == 2
+            && previous.getRoot(0) != 0 && previous.getRoot(1) != 0;
+    }
+
+    /**
+     * @return true if roots polished from the previous ones are in the opposite order, i.e. roots were not tracked.
+     */
+    private static boolean isSwapped(RootSet roots, RootSet previous) {
+        return Math.signum(roots.getRoot(0) - roots.getRoot(1)) != Math.signum(previous.getRoot(0) - previous.getRoot(1));
+    }
+
+    /**
+     * @return roots solved from scratch in the order that keeps each of them closest to the previous root.
+     */
+    private static RootSet track(RootSet roots, RootSet previous) {
+        if (roots.size() != 2 || previous == null || previous.size() != 2) {
+            return roots;
+        }
+        double distance = Math.abs(roots.getRoot(0) - previous.getRoot(0)) + Math.abs(roots.getRoot(1) - previous.getRoot(1));
+        double swappedDistance = Math.abs(roots.getRoot(1) - previous.getRoot(0)) + Math.abs(roots.getRoot(0) - previous.getRoot(1));
+        if (swappedDistance < distance) {
+            return RootSet.of(roots.getRoot(1), roots.getError(1), roots.getRoot(0), roots.getError(0));
+        } else {
+            return roots;
+        }
+    }
+
+    /**
+     * Change of the sign of the exact discriminant between two consecutive equations of the sweep.
+     */
+    public static final class Event {
+        public enum Kind {
+            /**
+             * Discriminant became positive, equation has two distinct real roots.
+             */
+            ROOTS_APPEARED,
+
+            /**
+             * Discriminant became negative, equation has no real roots.
+             */
+            ROOTS_VANISHED,
+
+            /**
+             * Discriminant became 0, roots coalesced into one double root.
+             */
+            ROOTS_COALESCED
+        }
+
+        private final int index;
+        private final Kind kind;
+
+        Event(int index, Kind kind) {
+            this.index = index;
+            this.kind = kind;
+        }
+
+        /**
+         * @return index of the first equation of the sweep with the new sign of the discriminant.
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s at %s", kind, index);
+        }
+    }
+
+    /**
+     * Roots of all equations of the sweep. Roots of every equation with two roots are in the same order as roots of
+     * the previous one, so that {@code getRoots(i).getRoot(0)} follows the same root across the sweep.
+     */
+    public static final class Result {
+        private final double[] values;
+        private final RootSet[] roots;
+        private final List<Event> events;
+        private final int warmStarts;
+
+        Result(double[] values, RootSet[] roots, List<Event> events, int warmStarts) {
+            this.values = values;
+            this.roots = roots;
+            this.events = Collections.unmodifiableList(events);
+            this.warmStarts = warmStarts;
+        }
+
+        /**
+         * @return number of equations in the sweep.
+         */
+        public int size() {
+            return roots.length;
+        }
+
+        /**
+         * @return value of the varied parameter of the i-th equation.
+         */
+        public double getValue(int i) {
+            return values[i];
+        }
+
+        /**
+         * @return roots of the i-th equation and their errors.
+         */
+        public RootSet getRoots(int i) {
+            return roots[i];
+        }
+
+        public List<Event> getEvents() {
+            return events;
+        }
+
+        /**
+         * @return number of equations solved by Newton iterations started from the roots of the previous equation.
+         */
+        public int getWarmStartCount() {
+            return warmStarts;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package net.priimak.qe;
+
+/**
+ * Factory of solvers computing in Apfloat arithmetic at the precision of the given {@link PrecisionContext}.
+ * Solvers at the default precision are available from the {@link QuadraticEquationSolverFactory}.
+ */
+public final class PreciseSolverFactory {
+    private PreciseSolverFactory() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Same as {@link QuadraticEquationSolverFactory#getSolver(QuadraticEquationSolver.Type)} but solvers computing in
+     * arbitrary precision, i.e. {@link QuadraticEquationSolver.Type#SIMPLE_AP} and last resort of
+     * {@link QuadraticEquationSolver.Type#ADAPTIVE}, do so at the precision of the given context. Solvers of other
+     * types do not depend on context.
+     *
+     * @param type type of solver.
+     * @param context precision context, which may be shared by any number of solvers and threads.
+     */
+    public static QuadraticEquationSolver getSolver(QuadraticEquationSolver.Type type, PrecisionContext context) {
+        switch (type) {
+            case SIMPLE_AP:
+                return new SimpleApQuadraticEquationSolver(context);
+            case ADAPTIVE:
+                return new AdaptiveQuadraticEquationSolver(
+                    AdaptiveQuadraticEquationSolver.DEFAULT_MAX_RELATIVE_ERROR,
+                    new CitardauqQuadraticApEquationSolver(context)
+                );
+            default:
+                return QuadraticEquationSolverFactory.getSolver(type);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package net.priimak.qe;
+
+import java.math.BigDecimal;
+import org.apfloat.Apfloat;
+
+/**
+ * Precision, in decimal digits, of the arbitrary precision computations along with pre-built constants at that
+ * precision. Context is immutable, so one context can be shared by all threads and all solvers using it.
+ * <p>
+ * Doubles are converted to {@link Apfloat} exactly, through their {@link BigDecimal} expansion, and only then rounded
+ * to the precision of the context, rather than through their shortest decimal representation. Conversion back to
+ * double by {@link #doubleValue(Apfloat)} is correctly rounded, which {@link Apfloat#doubleValue()} is not.
+ */
+public final class PrecisionContext {
+    /**
+     * Precision used by {@link QuadraticEquationSolver.Type#SIMPLE_AP} solver unless other context is given.
+     */
+    public static final long DEFAULT_SOLVER_PRECISION = 100;
+
+    /**
+     * Precision of the Newton iterations of the {@link NewQadraticEquationSolver} unless other context is given.
+     */
+    public static final long DEFAULT_REFINEMENT_PRECISION = NewQadraticEquationSolver.APFLOAT_PRECESSION;
+
+    static final PrecisionContext DEFAULT_SOLVER = new PrecisionContext(DEFAULT_SOLVER_PRECISION);
+    static final PrecisionContext DEFAULT_REFINEMENT = new PrecisionContext(DEFAULT_REFINEMENT_PRECISION);
+
+    private final long precision;
+    final Apfloat zero;
+    final Apfloat two;
+    final Apfloat four;
+    final Apfloat minusOne;
+    final Apfloat minusTwo;
+    final Apfloat oneTenth;
+
+    /**
+     * @param precision precision in decimal digits, at least 17 so that doubles survive round trip.
+     */
+    public PrecisionContext(long precision) {
+        if (precision < 17) {
+            throw new IllegalArgumentException("Precision must be at least 17 digits");
+        }
+        this.precision = precision;
+        this.zero = new Apfloat(0, precision);
+        this.two = new Apfloat(2, precision);
+        this.four = new Apfloat(4, precision);
+        this.minusOne = new Apfloat(-1, precision);
+        this.minusTwo = new Apfloat(-2, precision);
+        this.oneTenth = new Apfloat("0.1", precision);
+    }
+
+    public long getPrecision() {
+        return precision;
+    }
+
+    /**
+     * @return exact value of the double rounded to the precision of this context.
+     * @throws NumberFormatException if number is not finite.
+     */
+    public Apfloat valueOf(double x) {
+        return new Apfloat(new BigDecimal(x), precision);
+    }
+
+    /**
+     * @return value of x correctly rounded to the nearest double, which is infinite if x is out of range of doubles.
+     */
+    public static double doubleValue(Apfloat x) {
+        return new BigDecimal(x.toString(true)).doubleValue();
+    }
+
+    @Override
+    public boolean equals(Object otherObject) {
+        if (this == otherObject) {
+            return true;
+        } else if (otherObject == null || getClass() != otherObject.getClass()) {
+            return false;
+        }
+        return precision == ((PrecisionContext) otherObject).precision;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(precision);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PrecisionContext[%s digits]", precision);
+    }
+}
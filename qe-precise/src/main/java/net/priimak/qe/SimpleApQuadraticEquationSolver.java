@@ -0,0 +1,87 @@
+package net.priimak.qe;
+
+import org.apfloat.Apfloat;
+import org.apfloat.ApfloatMath;
+
+/**
+ * Solver that solves quadratic equation using simple formulae in Apfloat arithmetic at the precision of its
+ * {@link PrecisionContext}. See {@link QuadraticEquationSolver.Type#SIMPLE_AP} for more details.
+ */
+final class SimpleApQuadraticEquationSolver implements QuadraticEquationSolver {
+    /**
+     * Instance of {@link SimpleApQuadraticEquationSolver} using {@link PrecisionContext#DEFAULT_SOLVER_PRECISION}.
+     */
+    static final SimpleApQuadraticEquationSolver INSTANCE = new SimpleApQuadraticEquationSolver(PrecisionContext.DEFAULT_SOLVER);
+
+    private final PrecisionContext context;
+
+    SimpleApQuadraticEquationSolver(PrecisionContext context) {
+        this.context = context;
+    }
+
+    @Override
+    public double[] solve(QuadraticEquation equation) throws OutOfNumericRange {
+        long startTime = SolverMetrics.startTime();
+        try {
+            double[] result = QuadraticEquationSolverFactory.handleCornerCases(equation);
+            return result != null ? result : solveWithApfloat(equation);
+        } finally {
+            SolverMetrics.recordTime(SolverMetrics.Distribution.SIMPLE_AP_NANOS, startTime);
+        }
+    }
+
+    /**
+     * Overridden so that overflows are reported by status codes without ever throwing {@link OutOfNumericRange}.
+     */
+    @Override
+    public void solve(double[] a, double[] b, double[] c, int offset, int length,
+                      double[] root1, double[] root2, int[] rootCount, byte[] status) {
+        QuadraticEquationSolverFactory.checkBatchRange(offset, length, a, b, c, root1, root2, rootCount, status);
+        for (int i = offset; i < offset + length; i++) {
+            long startTime = SolverMetrics.startTime();
+            if (!QuadraticEquationSolverFactory.handleCornerCases(a[i], b[i], c[i], i, root1, root2, rootCount, status)) {
+                double[] roots = solveWithApfloat(new QuadraticEquation(a[i], b[i], c[i]));
+                QuadraticEquationSolverFactory.storeRoots(
+                    i, roots.length,
+                    roots.length > 0 ? roots[0] : Double.NaN,
+                    roots.length > 1 ? roots[1] : Double.NaN,
+                    root1, root2, rootCount, status
+                );
+            }
+            SolverMetrics.recordTime(SolverMetrics.Distribution.SIMPLE_AP_NANOS, startTime);
+        }
+    }
+
+    PrecisionContext getContext() {
+        return context;
+    }
+
+    /**
+     * Solve equation which is not a corner case. Roots that do not fit into double are returned as infinities.
+     */
+    private double[] solveWithApfloat(QuadraticEquation equation) {
+        Apfloat a = context.valueOf(equation.getA());
+        Apfloat b = context.valueOf(equation.getB());
+        Apfloat c = context.valueOf(equation.getC());
+        // ax^2 + bx + c = 0
+        Apfloat discriminant = b.multiply(b).subtract(context.four.multiply(a).multiply(c));
+        int cmp = discriminant.signum();
+        SolverMetrics.countDiscriminant(cmp);
+        if (cmp == 0) {
+            // only one solution
+            Apfloat root = b.divide(a).divide(context.minusTwo);
+            return new double[] {PrecisionContext.doubleValue(root)};
+        } else if (cmp < 0){
+            return QuadraticEquationSolverFactory.NO_SOLUTIONS;
+        } else {
+            // two solutions
+            Apfloat sqrt = ApfloatMath.sqrt(discriminant);
+            Apfloat minusB = context.minusOne.multiply(b);
+            Apfloat twoA = context.two.multiply(a);
+            return new double[] {
+                PrecisionContext.doubleValue(minusB.add(sqrt).divide(twoA)),
+                PrecisionContext.doubleValue(minusB.subtract(sqrt).divide(twoA))
+            };
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package net.priimak.qe;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import net.priimak.numeric.Interval;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public final class TestIntervalSolver {
+    private static final double MAXIMUM_RELATIVE_ERROR = 1.0E-20;
+
+    /**
+     * Enclosures must contain roots solved to much higher precision by {@link NewQadraticEquationSolver} and for
+     * random equations almost all of them must be at most few ulps wide.
+     */
+    @Test
+    public void testEnclosuresContainRoots() throws OutOfNumericRange {
+        Random random = new Random(21);
+        int count = 0;
+        int tight = 0;
+        for (int i = 0; i < 10000; i++) {
+            QuadraticEquation equation = new QuadraticEquation(
+                random.nextGaussian(), random.nextGaussian() * 10, random.nextGaussian()
+            );
+            for (Interval enclosure : assertEnclosed(equation)) {
+                double ulp = Math.ulp(Math.max(Math.abs(enclosure.getLo()), Math.abs(enclosure.getHi())));
+                count++;
+                if (enclosure.getWidth() <= 4 * ulp) {
+                    tight++;
+                }
+            }
+        }
+        Assert.assertTrue(tight > 0.95 * count, tight + " of " + count + " enclosures are tight");
+    }
+
+    @Test
+    public void testIllConditionedEquations() throws OutOfNumericRange {
+        assertEnclosed(new QuadraticEquation(1, -2, 1 - 0x1.0p-52));
+        assertEnclosed(new QuadraticEquation(94906267, -189812534, 94906266));
+        assertEnclosed(new QuadraticEquation(1.0E-100, 1.0E100, -1.0E-100));
+        assertEnclosed(new QuadraticEquation(1.0E200, -3.0E200, 2.0E200));
+        assertEnclosed(new QuadraticEquation(3, 1.0E-300, -1.0E-300));
+    }
+
+    @Test
+    public void testCornerCases() throws OutOfNumericRange {
+        IntervalQuadraticEquationSolver solver = IntervalQuadraticEquationSolver.INSTANCE;
+        Assert.assertEquals(solver.solve(new QuadraticEquation(0, 0, 1)).length, 0);
+        Assert.assertEquals(solver.solve(new QuadraticEquation(0, 2, -1)), new Interval[] {Interval.of(0.5)});
+        Assert.assertEquals(solver.solve(new QuadraticEquation(1, 0, -4)), new Interval[] {Interval.of(2), Interval.of(-2)});
+        Assert.assertEquals(solver.solve(new QuadraticEquation(1, 0, 4)).length, 0);
+        Assert.assertEquals(solver.solve(new QuadraticEquation(2, 4, 0)), new Interval[] {Interval.of(0), Interval.of(-2)});
+        Assert.assertEquals(solver.solve(new QuadraticEquation(1, -2, 1)), new Interval[] {Interval.of(1)});
+        Assert.assertEquals(solver.solve(new QuadraticEquation(1, 1, 1)).length, 0);
+        assertEnclosed(new QuadraticEquation(0, 3, -1));
+
+        Interval[] roots = solver.solve(new QuadraticEquation(1, 0, -2));
+        Assert.assertTrue(roots[0].contains(Math.sqrt(2)) && roots[0].getWidth() > 0, roots[0].toString());
+        Assert.assertEquals(roots[1], new Interval(-roots[0].getHi(), -roots[0].getLo()));
+    }
+
+    @Test(expectedExceptions = OutOfNumericRange.class)
+    public void testOutOfRange() throws OutOfNumericRange {
+        IntervalQuadraticEquationSolver.INSTANCE.solve(new QuadraticEquation(Double.MIN_VALUE, -Double.MAX_VALUE, 1));
+    }
+
+    /**
+     * @return enclosures of roots of the equation after checking that they contain its roots.
+     */
+    private static Interval[] assertEnclosed(QuadraticEquation equation) throws OutOfNumericRange {
+        Interval[] enclosures = IntervalQuadraticEquationSolver.INSTANCE.solve(equation);
+        double[] roots = NewQadraticEquationSolver.INSTANCE.solveRoots(equation, MAXIMUM_RELATIVE_ERROR).getRoots();
+        Assert.assertEquals(enclosures.length, roots.length, equation.toString());
+        Interval[] sorted = enclosures.clone();
+        Arrays.sort(sorted, Comparator.comparingDouble(Interval::getLo));
+        Arrays.sort(roots);
+        for (int i = 0; i < roots.length; i++) {
+            // roots are rounded to double, exact root may be just outside of the enclosure of the rounded one
+            Assert.assertTrue(
+                Math.nextDown(sorted[i].getLo()) <= roots[i] && roots[i] <= Math.nextUp(sorted[i].getHi()),
+                equation + " root " + roots[i] + " is not in " + sorted[i]
+            );
+        }
+        return enclosures;
+    }
+}
@@ -0,0 +1,67 @@
+package net.priimak.qe;
+
+import java.util.Arrays;
+import net.priimak.numeric.RootSet;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public final class TestParameterSweep {
+    private static final double MAXIMUM_RELATIVE_ERROR = 1.0E-20;
+
+    /**
+     * Warm started roots must be the same as the roots solved from scratch and sign changes of discriminant of
+     * x^2 - 2x + c, which has double root at c = 1, must be reported.
+     */
+    @Test
+    public void testSweepOfC() throws OutOfNumericRange {
+        ParameterSweep.Result result = new ParameterSweep(
+            new QuadraticEquation(1, -2, 0), ParameterSweep.Parameter.C, MAXIMUM_RELATIVE_ERROR
+        ).solve(-10, 10, 2001);
+        Assert.assertEquals(result.size(), 2001);
+        for (int i = 0; i < result.size(); i++) {
+            RootSet roots = result.getRoots(i);
+            RootSet expected = NewQadraticEquationSolver.INSTANCE.solveRoots(
+                new QuadraticEquation(1, -2, result.getValue(i)), MAXIMUM_RELATIVE_ERROR
+            );
+            double[] actualRoots = roots.getRoots();
+            double[] expectedRoots = expected.getRoots();
+            Arrays.sort(actualRoots);
+            Arrays.sort(expectedRoots);
+            Assert.assertEquals(actualRoots, expectedRoots, "c = " + result.getValue(i));
+        }
+        Assert.assertEquals(result.getEvents().size(), 2, result.getEvents().toString());
+        Assert.assertEquals(result.getEvents().get(0).getKind(), ParameterSweep.Event.Kind.ROOTS_COALESCED);
+        Assert.assertEquals(result.getEvents().get(0).getIndex(), 1100);
+        Assert.assertEquals(result.getEvents().get(1).getKind(), ParameterSweep.Event.Kind.ROOTS_VANISHED);
+        Assert.assertEquals(result.getEvents().get(1).getIndex(), 1101);
+        Assert.assertTrue(result.getWarmStartCount() > 1000, "warm starts " + result.getWarmStartCount());
+    }
+
+    @Test
+    public void testRootsAppear() throws OutOfNumericRange {
+        ParameterSweep.Result result = new ParameterSweep(
+            new QuadraticEquation(1, 0, 1), ParameterSweep.Parameter.B, MAXIMUM_RELATIVE_ERROR
+        ).solve(new double[] {1, 1.5, 2, 2.5, 3});
+        Assert.assertEquals(result.getRoots(0).size(), 0);
+        Assert.assertEquals(result.getRoots(2).getRoots(), new double[] {-1});
+        Assert.assertEquals(result.getEvents().get(0).getKind(), ParameterSweep.Event.Kind.ROOTS_COALESCED);
+        Assert.assertEquals(result.getEvents().get(1).getKind(), ParameterSweep.Event.Kind.ROOTS_APPEARED);
+        Assert.assertEquals(result.getEvents().get(1).getIndex(), 3);
+    }
+
+    /**
+     * Roots of x^2 + bx - 1 must be tracked continuously while b changes sign, even though Citardauq formulae swap
+     * near and far roots at b = 0.
+     */
+    @Test
+    public void testRootsAreTracked() throws OutOfNumericRange {
+        ParameterSweep.Result result = new ParameterSweep(
+            new QuadraticEquation(1, 0, -1), ParameterSweep.Parameter.B, MAXIMUM_RELATIVE_ERROR
+        ).solve(-1, 1, 200);
+        for (int i = 1; i < result.size(); i++) {
+            Assert.assertEquals(result.getRoots(i).getRoot(0), result.getRoots(i - 1).getRoot(0), 0.01, "i = " + i);
+            Assert.assertEquals(result.getRoots(i).getRoot(1), result.getRoots(i - 1).getRoot(1), 0.01, "i = " + i);
+        }
+        Assert.assertTrue(result.getEvents().isEmpty());
+    }
+}
@@ -0,0 +1,206 @@
+package net.priimak.qe;
+
+import java.util.Arrays;
+import java.util.List;
+import net.priimak.numeric.RootSet;
+import net.priimak.numeric.Value;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests of the arbitrary precision solvers, equations and helpers of which are shared with {@link TestSolvers}.
+ */
+public final class TestPreciseSolvers {
+    private static final double MAXIMUM_RELATIVE_ERROR = TestSolvers.MAXIMUM_RELATIVE_ERROR;
+
+    /**
+     * With {@code qe-precise} module on the class path solvers of every type must be available.
+     */
+    @Test
+    public void testPreciseSolversAreAvailable() {
+        for (QuadraticEquationSolver.Type type : QuadraticEquationSolver.Type.values()) {
+            Assert.assertTrue(QuadraticEquationSolverFactory.isAvailable(type), type.toString());
+            Assert.assertNotNull(QuadraticEquationSolverFactory.getSolver(type), type.toString());
+        }
+    }
+
+    /**
+     * This test will fail due to significant numerical
+     * error in {@link net.priimak.qe.SimpleQuadraticEquationSolver#INSTANCE}. Enable it to see just that.
+     */
+    @Test(enabled = false)
+    public void testSimpleSolver() {
+        TestSolvers.testSolver(QuadraticEquationSolverFactory.getSolver(QuadraticEquationSolver.Type.SIMPLE_AP));
+    }
+
+    @Test
+    public void testNewSolver() {
+        testNewSolver(NewQadraticEquationSolver.INSTANCE);
+    }
+
+    /**
+     * Near double root Newton iterations converge only linearly, yet Apfloat refinement must finish within its bound
+     * on iterations with roots no further than their errors from the ones of double-double refinement.
+     */
+    @Test
+    public void testApfloatRefinementNearDoubleRoot() throws OutOfNumericRange {
+        QuadraticEquation[] equations = {
+            new QuadraticEquation(1, -(2 + 2.897595e-8), 1 + 2.897595e-8),
+            new QuadraticEquation(1, -2, 1 - Math.ulp(1.0)),
+            new QuadraticEquation(1e-200, -2e-100, 1 + 1e-15)
+        };
+        for (QuadraticEquation equation : equations) {
+            RootSet expected = NewQadraticEquationSolver.INSTANCE.solveRoots(equation, MAXIMUM_RELATIVE_ERROR);
+            RootSet roots = NewQadraticEquationSolver.INSTANCE.solveRoots(
+                equation, MAXIMUM_RELATIVE_ERROR, NewQadraticEquationSolver.Refinement.APFLOAT
+            );
+            Assert.assertEquals(roots.size(), expected.size(), equation.toString());
+            for (int i = 0; i < roots.size(); i++) {
+                Assert.assertEquals(
+                    roots.getRoot(i), expected.getRoot(i),
+                    Math.max(roots.getError(i) + expected.getError(i), Math.ulp(expected.getRoot(i))),
+                    equation.toString()
+                );
+            }
+        }
+    }
+
+    /**
+     * Apfloat refinement must give the same roots as double-double refinement at any precision of the context that
+     * covers requested relative error.
+     */
+    @Test
+    public void testApfloatRefinement() throws OutOfNumericRange {
+        for (PrecisionContext context : new PrecisionContext[] {new PrecisionContext(120), PrecisionContext.DEFAULT_REFINEMENT}) {
+            for (QuadraticEquation equation : TestSolvers.EQUATIONS) {
+                RootSet expected = NewQadraticEquationSolver.INSTANCE.solveRoots(equation, MAXIMUM_RELATIVE_ERROR);
+                RootSet roots = NewQadraticEquationSolver.INSTANCE.solveRoots(
+                    equation, MAXIMUM_RELATIVE_ERROR, NewQadraticEquationSolver.Refinement.APFLOAT, context
+                );
+                Assert.assertEquals(roots.size(), expected.size(), context + " " + equation);
+                for (int i = 0; i < roots.size(); i++) {
+                    Assert.assertEquals(
+                        roots.getRoot(i), expected.getRoot(i), Math.ulp(expected.getRoot(i)),
+                        context + " " + equation
+                    );
+                }
+            }
+        }
+    }
+
+    /**
+     * Adaptive solver must find as many roots as there are according to the sign of exact discriminant and every root
+     * must be within requested relative error from the root refined to {@link TestSolvers#MAXIMUM_RELATIVE_ERROR}.
+     */
+    @Test
+    public void testAdaptiveSolver() throws OutOfNumericRange {
+        double maxRelativeError = 1.0E-15;
+        QuadraticEquationSolver solver = QuadraticEquationSolverFactory.getAdaptiveSolver(maxRelativeError);
+        for (QuadraticEquation equation : TestSolvers.EQUATIONS) {
+            double[] roots = solver.solve(equation);
+            List<Value<Double>> expectedRoots = NewQadraticEquationSolver.INSTANCE.solve(equation, MAXIMUM_RELATIVE_ERROR);
+            if (equation.getA() != 0 && equation.getB() != 0 && equation.getC() != 0) {
+                Assert.assertEquals(roots.length, 1 + TestSolvers.discriminantSign(equation), equation.toString());
+            }
+            Assert.assertEquals(roots.length, expectedRoots.size(), equation.toString());
+            for (int i = 0; i < roots.length; i++) {
+                double expected = expectedRoots.get(i).getValue();
+                Assert.assertTrue(
+                    Math.abs(roots[i] - expected) <= maxRelativeError * Math.abs(expected),
+                    equation + " : root = " + roots[i] + ", expected " + expected
+                );
+            }
+        }
+    }
+
+    /**
+     * Extended range solver must find roots of well-conditioned equations, exponents of parameters of which are far
+     * apart, with the accuracy of the double precision.
+     */
+    @Test
+    public void testExtendedRangeSolver() throws OutOfNumericRange {
+        QuadraticEquationSolver solver = QuadraticEquationSolverFactory.getSolver(QuadraticEquationSolver.Type.EXTENDED_RANGE);
+        List<QuadraticEquation> equations = Arrays.asList(
+            new QuadraticEquation(1, -3, 2),
+            new QuadraticEquation(1e200, -3e200, 2e200),
+            new QuadraticEquation(-1e-200, 3e-200, 2e-199),
+            new QuadraticEquation(-1e-200, 3e-201, 2e97),
+            new QuadraticEquation(1e-200, 3e-100, -2e97),
+            new QuadraticEquation(1e300, 1e-300, -1e-300),
+            new QuadraticEquation(1e-100, 1e100, -1e-100),
+            new QuadraticEquation(Double.MIN_VALUE, -3 * Double.MIN_VALUE, 2 * Double.MIN_VALUE),
+            new QuadraticEquation(Double.MAX_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE)
+        );
+        for (QuadraticEquation equation : equations) {
+            double[] roots = solver.solve(equation);
+            List<Value<Double>> expectedRoots = NewQadraticEquationSolver.INSTANCE.solve(equation, MAXIMUM_RELATIVE_ERROR);
+            Assert.assertEquals(roots.length, expectedRoots.size(), equation.toString());
+            for (int i = 0; i < roots.length; i++) {
+                double expected = expectedRoots.get(i).getValue();
+                Assert.assertTrue(
+                    Math.abs(roots[i] - expected) <= 1.0E-15 * Math.abs(expected),
+                    equation + " : root = " + roots[i] + ", expected " + expected
+                );
+            }
+        }
+    }
+
+    /**
+     * Primitive root set must hold exactly the same roots and errors as the boxed ones.
+     */
+    @Test
+    public void testSolveRoots() throws OutOfNumericRange {
+        for (QuadraticEquation equation : TestSolvers.EQUATIONS) {
+            RootSet roots = NewQadraticEquationSolver.INSTANCE.solveRoots(equation, MAXIMUM_RELATIVE_ERROR);
+            Assert.assertEquals(roots.toValues(), NewQadraticEquationSolver.INSTANCE.solve(equation, MAXIMUM_RELATIVE_ERROR));
+        }
+    }
+
+    @Test
+    public void testPrecisionContext() {
+        PrecisionContext context = new PrecisionContext(40);
+        TestBatchSolvers.testBatchSolver(
+            PreciseSolverFactory.getSolver(QuadraticEquationSolver.Type.SIMPLE_AP, context)
+        );
+        TestBatchSolvers.testBatchSolver(
+            PreciseSolverFactory.getSolver(QuadraticEquationSolver.Type.ADAPTIVE, context)
+        );
+        Assert.assertSame(
+            PreciseSolverFactory.getSolver(QuadraticEquationSolver.Type.CITARDAUQ, context),
+            QuadraticEquationSolverFactory.getSolver(QuadraticEquationSolver.Type.CITARDAUQ)
+        );
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testPrecisionContextIsChecked() {
+        new PrecisionContext(16);
+    }
+
+    @Test
+    public void testNewSolverCache() throws OutOfNumericRange {
+        SolutionCache<List<Value<Double>>> cache = new SolutionCache<>(16);
+        QuadraticEquation equation = TestSolvers.EQUATIONS.get(0);
+        List<Value<Double>> roots = NewQadraticEquationSolver.INSTANCE.solve(equation, 1.0E-20, cache);
+        Assert.assertSame(NewQadraticEquationSolver.INSTANCE.solve(equation, 1.0E-20, cache), roots);
+        Assert.assertNotSame(NewQadraticEquationSolver.INSTANCE.solve(equation, 1.0E-10, cache), roots);
+        Assert.assertEquals(cache.getHitCount(), 1);
+    }
+
+    private static void testNewSolver(NewQadraticEquationSolver solver) {
+        System.out.println(String.format("\nTesting %s", solver.getClass().getSimpleName()));
+        for (QuadraticEquation equation : TestSolvers.EQUATIONS) {
+            try {
+                List<Value<Double>> roots = NewQadraticEquationSolver.INSTANCE.solve(equation, MAXIMUM_RELATIVE_ERROR);
+                for (Value<Double> root : roots) {
+                    double value = QuadraticEquationEvaluator.compute(equation, root.getValue());
+                    System.out.println(equation + " : root = [" + root + "] -> " + value);
+                }
+                if (!roots.isEmpty()) {
+                    System.out.println();
+                }
+            } catch (OutOfNumericRange outOfNumericRange) {
+                Assert.fail(outOfNumericRange.getMessage());
+            }
+        }
+    }
+}
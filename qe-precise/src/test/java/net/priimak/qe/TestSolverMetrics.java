@@ -0,0 +1,77 @@
+package net.priimak.qe;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+public final class TestSolverMetrics {
+    /**
+     * Runs only in JVM started with metrics enabled, which is done by the test-metrics execution of surefire.
+     */
+    @Test
+    public void testSolverMetrics() throws Exception {
+        if (!SolverMetrics.isEnabled()) {
+            throw new SkipException("Solver metrics are disabled");
+        }
+        SolverMetrics.reset();
+        QuadraticEquationSolver solver = QuadraticEquationSolverFactory.getSolver(QuadraticEquationSolver.Type.CITARDAUQ);
+        solver.solve(new QuadraticEquation(1, -3, 2));
+        solver.solve(new QuadraticEquation(1, -2, 1));
+        solver.solve(new QuadraticEquation(1, 1, 1));
+        solver.solve(new QuadraticEquation(0, 1, 1));
+        try {
+            solver.solve(new QuadraticEquation(Double.MIN_VALUE, 1, 1));
+            Assert.fail("Overflow is expected");
+        } catch (OutOfNumericRange outOfNumericRange) {
+            // counted
+        }
+        NewQadraticEquationSolver.INSTANCE.solve(new QuadraticEquation(1, -3, 2), 1.0E-20);
+        QuadraticEquationSolverFactory.getSolver(QuadraticEquationSolver.Type.SIMPLE_AP)
+            .solve(new QuadraticEquation(1, -3, 2));
+
+        Assert.assertEquals(SolverMetrics.getCount(SolverMetrics.Counter.POSITIVE_DISCRIMINANT), 3);
+        Assert.assertEquals(SolverMetrics.getCount(SolverMetrics.Counter.ZERO_DISCRIMINANT), 1);
+        Assert.assertEquals(SolverMetrics.getCount(SolverMetrics.Counter.NEGATIVE_DISCRIMINANT), 1);
+        Assert.assertEquals(SolverMetrics.getCount(SolverMetrics.Counter.CORNER_CASE), 1);
+        Assert.assertEquals(SolverMetrics.getCount(SolverMetrics.Counter.OUT_OF_NUMERIC_RANGE), 1);
+        Assert.assertEquals(SolverMetrics.getCount(SolverMetrics.Distribution.NEW_SOLVER_NANOS), 1);
+        Assert.assertEquals(SolverMetrics.getCount(SolverMetrics.Distribution.DOUBLE_DOUBLE_ITERATIONS), 2);
+        Assert.assertEquals(SolverMetrics.getCount(SolverMetrics.Distribution.SIMPLE_AP_NANOS), 1);
+        Assert.assertTrue(SolverMetrics.getMax(SolverMetrics.Distribution.SIMPLE_AP_NANOS) > 0);
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(SolverMetrics.OBJECT_NAME);
+        TabularData counters = (TabularData) server.getAttribute(name, "Counters");
+        CompositeData corners = counters.get(new Object[] {SolverMetrics.Counter.CORNER_CASE.name()});
+        Assert.assertEquals(corners.get("value"), 1L);
+        TabularData distributions = (TabularData) server.getAttribute(name, "Distributions");
+        Assert.assertEquals(distributions.get(new Object[] {"NEW_SOLVER_NANOS.count"}).get("value"), 1.0D);
+        server.invoke(name, "reset", new Object[0], new String[0]);
+        Assert.assertEquals(SolverMetrics.getCount(SolverMetrics.Counter.CORNER_CASE), 0);
+
+        // overflow in batch is counted once whether it is reported by status or by exception
+        List<QuadraticEquationSolver> solvers = new ArrayList<>();
+        for (QuadraticEquationSolver.Type type : QuadraticEquationSolver.Type.values()) {
+            solvers.add(QuadraticEquationSolverFactory.getSolver(type));
+        }
+        solvers.add(QuadraticEquationSolverFactory.getCachingSolver(QuadraticEquationSolver.Type.CITARDAUQ, 16));
+        for (QuadraticEquationSolver batchSolver : solvers) {
+            SolverMetrics.reset();
+            byte[] status = new byte[1];
+            batchSolver.solve(
+                new double[] {Double.MIN_VALUE}, new double[] {1}, new double[] {1}, 0, 1,
+                new double[1], new double[1], new int[1], status
+            );
+            String message = batchSolver.toString();
+            Assert.assertEquals(status[0], SolutionStatus.OVERFLOW.code(), message);
+            Assert.assertEquals(SolverMetrics.getCount(SolverMetrics.Counter.OUT_OF_NUMERIC_RANGE), 1, message);
+        }
+    }
+}
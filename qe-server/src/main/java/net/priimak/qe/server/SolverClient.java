@@ -0,0 +1,105 @@
+package net.priimak.qe.server;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import net.priimak.qe.QuadraticEquationSolver;
+
+/**
+ * Client of the {@link SolverServer}. Client holds one blocking connection and is not thread safe, concurrent callers
+ * should use a client each.
+ */
+public final class SolverClient implements Closeable {
+    private final SocketChannel channel;
+    private final ByteBuffer length = SolverProtocol.allocate(SolverProtocol.LENGTH_SIZE);
+    private ByteBuffer request = SolverProtocol.allocate(0);
+    private ByteBuffer response = SolverProtocol.allocate(0);
+
+    public SolverClient(InetSocketAddress address) throws IOException {
+        this.channel = SocketChannel.open(address);
+        this.channel.socket().setTcpNoDelay(true);
+    }
+
+    /**
+     * Same as {@link QuadraticEquationSolver#solve(double[], double[], double[], int, int, double[], double[], int[],
+     * byte[])} of the solver of the given type, but solved by the server. Batches larger than maximum size of the
+     * frame are sent in several frames.
+     *
+     * @throws IOException if connection failed or server closed it, which it does if solver failed.
+     * @throws IndexOutOfBoundsException if any of the buffers is shorter than {@code offset + length}.
+     */
+    public void solve(QuadraticEquationSolver.Type type, double[] a, double[] b, double[] c, int offset, int length,
+                      double[] root1, double[] root2, int[] rootCount, byte[] status) throws IOException {
+        SolverProtocol.checkRange(
+            offset, length, a.length, b.length, c.length, root1.length, root2.length, rootCount.length, status.length
+        );
+        for (int first = offset; first < offset + length; first += SolverProtocol.MAX_EQUATIONS_PER_FRAME) {
+            int count = Math.min(SolverProtocol.MAX_EQUATIONS_PER_FRAME, offset + length - first);
+            sendRequest(type, a, b, c, first, count);
+            receiveResponse(first, count, root1, root2, rootCount, status);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void sendRequest(QuadraticEquationSolver.Type type, double[] a, double[] b, double[] c,
+                             int first, int count) throws IOException {
+        int frameLength = 1 + count * SolverProtocol.EQUATION_SIZE;
+        if (request.capacity() < SolverProtocol.LENGTH_SIZE + frameLength) {
+            request = SolverProtocol.allocate(SolverProtocol.LENGTH_SIZE + frameLength);
+        }
+        ((Buffer) request).clear();
+        request.putInt(frameLength);
+        request.put((byte) type.ordinal());
+        for (int i = first; i < first + count; i++) {
+            request.putDouble(a[i]);
+            request.putDouble(b[i]);
+            request.putDouble(c[i]);
+        }
+        ((Buffer) request).flip();
+        while (request.hasRemaining()) {
+            channel.write(request);
+        }
+    }
+
+    private void receiveResponse(int first, int count,
+                                 double[] root1, double[] root2, int[] rootCount, byte[] status) throws IOException {
+        ((Buffer) length).clear();
+        readFully(length);
+        ((Buffer) length).flip();
+        int frameLength = length.getInt();
+        if (frameLength != count * SolverProtocol.SOLUTION_SIZE) {
+            throw new IOException(String.format(
+                "Response of %s bytes does not match request of %s equations", frameLength, count
+            ));
+        }
+        if (response.capacity() < frameLength) {
+            response = SolverProtocol.allocate(frameLength);
+        }
+        ((Buffer) response).clear().limit(frameLength);
+        readFully(response);
+        ((Buffer) response).flip();
+        for (int i = first; i < first + count; i++) {
+            rootCount[i] = response.get();
+            status[i] = response.get();
+            ((Buffer) response).position(response.position() + 6);
+            root1[i] = response.getDouble();
+            root2[i] = response.getDouble();
+        }
+    }
+
+    private void readFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Connection closed by server");
+            }
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package net.priimak.qe.server;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import net.priimak.qe.QuadraticEquationSolver;
+
+/**
+ * Load generator of the {@link SolverServer}. Every client sends batches of random equations for a given time and
+ * waits for the response before sending next one. Unless port is given, server is started in the same process on an
+ * ephemeral port.
+ *
+ * <pre>
+ *     java net.priimak.qe.server.SolverLoadGenerator [--port PORT] [--type TYPE] [--clients N] [--batch SIZE]
+ *                                                    [--seconds S]
+ * </pre>
+ */
+public final class SolverLoadGenerator {
+    private static final String USAGE =
+        "Usage: SolverLoadGenerator [--port PORT] [--type CITARDAUQ|SIMPLE|SIMPLE_AP|ADAPTIVE|EXTENDED_RANGE] "
+            + "[--clients N] [--batch SIZE] [--seconds S]";
+
+    private SolverLoadGenerator() {
+        throw new AssertionError();
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException, ExecutionException {
+        int port = 0;
+        QuadraticEquationSolver.Type type = QuadraticEquationSolver.Type.CITARDAUQ;
+        int clients = 4;
+        int batchSize = 64;
+        int seconds = 10;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--port":
+                        port = Integer.parseInt(args[++i]);
+                        break;
+                    case "--type":
+                        type = QuadraticEquationSolver.Type.valueOf(args[++i]);
+                        break;
+                    case "--clients":
+                        clients = Integer.parseInt(args[++i]);
+                        break;
+                    case "--batch":
+                        batchSize = Integer.parseInt(args[++i]);
+                        break;
+                    case "--seconds":
+                        seconds = Integer.parseInt(args[++i]);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option " + args[i]);
+                }
+            }
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+
+        SolverServer server = null;
+        InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+        if (port == 0) {
+            SolverServer.warmUp();
+            server = new SolverServer(address, Runtime.getRuntime().availableProcessors());
+            address = server.getAddress();
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        try {
+            List<Future<Statistics>> futures = new ArrayList<>();
+            long endTime = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+            for (int i = 0; i < clients; i++) {
+                InetSocketAddress clientAddress = address;
+                QuadraticEquationSolver.Type clientType = type;
+                int clientBatchSize = batchSize;
+                long seed = i;
+                futures.add(executor.submit(() -> generate(clientAddress, clientType, clientBatchSize, seed, endTime)));
+            }
+            Statistics total = new Statistics();
+            for (Future<Statistics> future : futures) {
+                total.add(future.get());
+            }
+            System.out.println(total.toString(seconds));
+        } finally {
+            executor.shutdown();
+            if (server != null) {
+                server.close();
+            }
+        }
+    }
+
+    private static Statistics generate(InetSocketAddress address, QuadraticEquationSolver.Type type, int batchSize,
+                                       long seed, long endTime) throws IOException {
+        Random random = new Random(seed);
+        double[] a = new double[batchSize];
+        double[] b = new double[batchSize];
+        double[] c = new double[batchSize];
+        double[] root1 = new double[batchSize];
+        double[] root2 = new double[batchSize];
+        int[] rootCount = new int[batchSize];
+        byte[] status = new byte[batchSize];
+        Statistics statistics = new Statistics();
+        try (SolverClient client = new SolverClient(address)) {
+            while (System.nanoTime() < endTime) {
+                for (int i = 0; i < batchSize; i++) {
+                    a[i] = random.nextGaussian();
+                    b[i] = random.nextGaussian();
+                    c[i] = random.nextGaussian();
+                }
+                long startTime = System.nanoTime();
+                client.solve(type, a, b, c, 0, batchSize, root1, root2, rootCount, status);
+                statistics.record(batchSize, System.nanoTime() - startTime);
+            }
+        }
+        return statistics;
+    }
+
+    /**
+     * Number of requests and equations along with their latencies.
+     */
+    private static final class Statistics {
+        private long requests;
+        private long equations;
+        private long totalNanos;
+        private long maxNanos;
+
+        void record(int batchSize, long nanos) {
+            requests++;
+            equations += batchSize;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        void add(Statistics other) {
+            requests += other.requests;
+            equations += other.equations;
+            totalNanos += other.totalNanos;
+            maxNanos = Math.max(maxNanos, other.maxNanos);
+        }
+
+        String toString(int seconds) {
+            return String.format(
+                "Solved %s equations in %s requests, %.0f equations/sec, mean latency %.1f us, max latency %.1f us",
+                equations, requests, (double) equations / seconds,
+                requests == 0 ? 0.0D : totalNanos / 1000.0D / requests, maxNanos / 1000.0D
+            );
+        }
+    }
+}
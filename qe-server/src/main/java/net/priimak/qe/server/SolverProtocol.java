@@ -0,0 +1,76 @@
+package net.priimak.qe.server;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import net.priimak.qe.QuadraticEquationSolver;
+
+/**
+ * Binary protocol spoken by {@link SolverServer} and {@link SolverClient}. All numbers are little-endian.
+ * <p>
+ * Request frame is a 4 byte length of the rest of the frame followed by 1 byte ordinal of the
+ * {@link QuadraticEquationSolver.Type} and by {@link #EQUATION_SIZE} bytes of (a, b, c) doubles of every equation.
+ * <p>
+ * Response frame is a 4 byte length of the rest of the frame followed by {@link #SOLUTION_SIZE} bytes of every
+ * equation in the order of request: 1 byte number of roots, 1 byte {@link net.priimak.qe.SolutionStatus} code,
+ * 6 bytes of padding and two double roots, same as the output records of {@link net.priimak.qe.FileSolvingPipeline}.
+ * <p>
+ * Server answers frames of every connection in order of arrival and closes connection on malformed frame.
+ * <p>
+ * Buffers are flipped and cleared through {@link java.nio.Buffer}, since covariant overrides of these methods in
+ * {@link ByteBuffer} do not exist in Java 8.
+ */
+final class SolverProtocol {
+    static final int LENGTH_SIZE = Integer.BYTES;
+    static final int EQUATION_SIZE = 3 * Double.BYTES;
+    static final int SOLUTION_SIZE = 3 * Double.BYTES;
+
+    /**
+     * Maximum number of equations in one frame, which bounds memory server allocates for one request.
+     */
+    static final int MAX_EQUATIONS_PER_FRAME = 1 << 20;
+
+    private static final QuadraticEquationSolver.Type[] TYPES = QuadraticEquationSolver.Type.values();
+
+    private SolverProtocol() {
+        throw new AssertionError();
+    }
+
+    /**
+     * @return number of equations in the request frame of the given length or -1 if length is not valid.
+     */
+    static int equationCount(int frameLength) {
+        if (frameLength < 1 || (frameLength - 1) % EQUATION_SIZE != 0
+            || (frameLength - 1) / EQUATION_SIZE > MAX_EQUATIONS_PER_FRAME)
+        {
+            return -1;
+        } else {
+            return (frameLength - 1) / EQUATION_SIZE;
+        }
+    }
+
+    /**
+     * @return solver type with the given ordinal or null if there is no such type.
+     */
+    static QuadraticEquationSolver.Type type(byte ordinal) {
+        return ordinal >= 0 && ordinal < TYPES.length ? TYPES[ordinal] : null;
+    }
+
+    static ByteBuffer allocate(int capacity) {
+        return ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Check that range [offset, offset + length) is valid for all of the given array lengths.
+     *
+     * @throws IndexOutOfBoundsException if range is not valid for any of the arrays.
+     */
+    static void checkRange(int offset, int length, int... arrayLengths) {
+        for (int arrayLength : arrayLengths) {
+            if (offset < 0 || length < 0 || offset > arrayLength - length) {
+                throw new IndexOutOfBoundsException(String.format(
+                    "Range [%s, %s) is out of bounds of buffer of length %s", offset, offset + length, arrayLength
+                ));
+            }
+        }
+    }
+}
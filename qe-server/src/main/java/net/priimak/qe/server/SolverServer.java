@@ -0,0 +1,329 @@
+package net.priimak.qe.server;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import net.priimak.qe.QuadraticEquationSolver;
+import net.priimak.qe.QuadraticEquationSolverFactory;
+
+/**
+ * TCP server that solves batches of quadratic equations sent by {@link SolverClient}s, so that many processes on one
+ * machine can share one warm solver process. Protocol is described in {@link SolverProtocol}.
+ * <p>
+ * Single selector thread accepts connections, reads request frames and writes response frames without ever blocking.
+ * Complete frames are solved on a pool of worker threads, while reading from their connection is suspended until
+ * response is written, which keeps responses in order of requests.
+ *
+ * <pre>
+ *     java net.priimak.qe.server.SolverServer [--port PORT] [--workers N] [--no-warmup]
+ * </pre>
+ */
+public final class SolverServer implements Closeable {
+    public static final int DEFAULT_PORT = 7171;
+
+    private static final String USAGE = "Usage: SolverServer [--port PORT] [--workers N] [--no-warmup]";
+
+    private final ServerSocketChannel serverChannel;
+    private final Selector selector;
+    private final ExecutorService workers;
+    private final Queue<Connection> solved = new ConcurrentLinkedQueue<>();
+    private final Thread selectorThread;
+    private volatile boolean closed;
+
+    /**
+     * Bind server to the given address and start serving.
+     *
+     * @param address address to bind to, port 0 binds to an ephemeral port.
+     * @param workerThreads number of threads solving equations.
+     */
+    public SolverServer(InetSocketAddress address, int workerThreads) throws IOException {
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        try {
+            serverChannel.bind(address);
+            serverChannel.configureBlocking(false);
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            serverChannel.close();
+            selector.close();
+            throw e;
+        }
+        this.workers = Executors.newFixedThreadPool(workerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "qe-server-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.selectorThread = new Thread(this::serve, "qe-server-selector");
+        this.selectorThread.start();
+    }
+
+    /**
+     * @return address server is bound to.
+     */
+    public InetSocketAddress getAddress() throws IOException {
+        return (InetSocketAddress) serverChannel.getLocalAddress();
+    }
+
+    /**
+     * Stop serving and close all connections.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        selector.wakeup();
+        try {
+            selectorThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        workers.shutdown();
+    }
+
+    private void serve() {
+        try {
+            while (!closed) {
+                selector.select();
+                for (Connection connection = solved.poll(); connection != null; connection = solved.poll()) {
+                    connection.respond();
+                }
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                    } else {
+                        Connection connection = (Connection) key.attachment();
+                        try {
+                            if (key.isReadable()) {
+                                connection.read();
+                            } else if (key.isWritable()) {
+                                connection.write();
+                            }
+                        } catch (IOException e) {
+                            connection.close();
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Solver server stopped: " + e);
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                closeQuietly(key.channel());
+            }
+            closeQuietly(selector);
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if (channel != null) {
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+            Connection connection = new Connection(channel);
+            connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+        }
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            // nothing to do
+        }
+    }
+
+    /**
+     * State of one client connection. Fields are accessed by the selector thread only, except for the
+     * {@link #response}, which is handed over from a worker through the queue of solved connections.
+     */
+    private final class Connection {
+        private final SocketChannel channel;
+        private final ByteBuffer length = SolverProtocol.allocate(SolverProtocol.LENGTH_SIZE);
+        private SelectionKey key;
+        private ByteBuffer request;
+        private ByteBuffer response;
+
+        Connection(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        void read() throws IOException {
+            if (request == null) {
+                if (channel.read(length) < 0) {
+                    close();
+                    return;
+                } else if (length.hasRemaining()) {
+                    return;
+                }
+                ((Buffer) length).flip();
+                int frameLength = length.getInt();
+                ((Buffer) length).clear();
+                if (SolverProtocol.equationCount(frameLength) < 0) {
+                    close();
+                    return;
+                }
+                request = SolverProtocol.allocate(frameLength);
+            }
+            if (channel.read(request) < 0) {
+                close();
+            } else if (!request.hasRemaining()) {
+                ((Buffer) request).flip();
+                QuadraticEquationSolver.Type type = SolverProtocol.type(request.get());
+                if (type == null) {
+                    close();
+                    return;
+                }
+                ByteBuffer frame = request;
+                request = null;
+                key.interestOps(0);
+                workers.execute(() -> {
+                    response = solve(type, frame);
+                    solved.add(this);
+                    selector.wakeup();
+                });
+            }
+        }
+
+        /**
+         * Start writing response produced by a worker.
+         */
+        void respond() {
+            if (!key.isValid()) {
+                return;
+            } else if (response == null) {
+                close();
+            } else {
+                key.interestOps(SelectionKey.OP_WRITE);
+            }
+        }
+
+        void write() throws IOException {
+            channel.write(response);
+            if (!response.hasRemaining()) {
+                response = null;
+                key.interestOps(SelectionKey.OP_READ);
+            }
+        }
+
+        void close() {
+            key.cancel();
+            closeQuietly(channel);
+        }
+    }
+
+    /**
+     * @param frame request frame positioned at the first equation.
+     * @return response frame ready to be written or null if solver failed.
+     */
+    private static ByteBuffer solve(QuadraticEquationSolver.Type type, ByteBuffer frame) {
+        int count = frame.remaining() / SolverProtocol.EQUATION_SIZE;
+        double[] a = new double[count];
+        double[] b = new double[count];
+        double[] c = new double[count];
+        for (int i = 0; i < count; i++) {
+            a[i] = frame.getDouble();
+            b[i] = frame.getDouble();
+            c[i] = frame.getDouble();
+        }
+        double[] root1 = new double[count];
+        double[] root2 = new double[count];
+        int[] rootCount = new int[count];
+        byte[] status = new byte[count];
+        try {
+            QuadraticEquationSolverFactory.getSolver(type).solve(a, b, c, 0, count, root1, root2, rootCount, status);
+        } catch (RuntimeException e) {
+            return null;
+        }
+        ByteBuffer response = SolverProtocol.allocate(SolverProtocol.LENGTH_SIZE + count * SolverProtocol.SOLUTION_SIZE);
+        response.putInt(count * SolverProtocol.SOLUTION_SIZE);
+        for (int i = 0; i < count; i++) {
+            response.put((byte) rootCount[i]);
+            response.put(status[i]);
+            response.putShort((short) 0);
+            response.putInt(0);
+            response.putDouble(root1[i]);
+            response.putDouble(root2[i]);
+        }
+        ((Buffer) response).flip();
+        return response;
+    }
+
+    /**
+     * Solve random equations with every type of solver, so that first clients do not pay for class loading and JIT
+     * compilation.
+     */
+    static void warmUp() {
+        Random random = new Random(1);
+        int count = 10000;
+        double[] a = new double[count];
+        double[] b = new double[count];
+        double[] c = new double[count];
+        for (int i = 0; i < count; i++) {
+            a[i] = random.nextGaussian();
+            b[i] = random.nextGaussian();
+            c[i] = random.nextGaussian();
+        }
+        double[] root1 = new double[count];
+        double[] root2 = new double[count];
+        int[] rootCount = new int[count];
+        byte[] status = new byte[count];
+        for (QuadraticEquationSolver.Type type : QuadraticEquationSolver.Type.values()) {
+            if (!QuadraticEquationSolverFactory.isAvailable(type)) {
+                continue;
+            }
+            int length = type == QuadraticEquationSolver.Type.SIMPLE_AP ? count / 10 : count;
+            QuadraticEquationSolverFactory.getSolver(type).solve(a, b, c, 0, length, root1, root2, rootCount, status);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = DEFAULT_PORT;
+        int workerThreads = Runtime.getRuntime().availableProcessors();
+        boolean warmUp = true;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--port":
+                        port = Integer.parseInt(args[++i]);
+                        break;
+                    case "--workers":
+                        workerThreads = Integer.parseInt(args[++i]);
+                        break;
+                    case "--no-warmup":
+                        warmUp = false;
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option " + args[i]);
+                }
+            }
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+        if (warmUp) {
+            warmUp();
+        }
+        SolverServer server = new SolverServer(
+            new InetSocketAddress(InetAddress.getLoopbackAddress(), port), workerThreads
+        );
+        System.out.println("Solver server is listening on " + server.getAddress());
+    }
+}
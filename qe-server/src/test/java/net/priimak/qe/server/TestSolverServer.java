@@ -0,0 +1,116 @@
+package net.priimak.qe.server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import net.priimak.qe.QuadraticEquationSolver;
+import net.priimak.qe.QuadraticEquationSolverFactory;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+public final class TestSolverServer {
+    private SolverServer server;
+
+    @BeforeClass
+    public void startServer() throws IOException {
+        server = new SolverServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 2);
+    }
+
+    @AfterClass
+    public void stopServer() throws IOException {
+        server.close();
+    }
+
+    /**
+     * Solutions of the server must be identical to the solutions of the local solver of the same type.
+     */
+    @Test
+    public void testSolutionsMatchLocalSolver() throws IOException {
+        int size = 1000;
+        double[] a = new double[size];
+        double[] b = new double[size];
+        double[] c = new double[size];
+        Random random = new Random(7);
+        for (int i = 0; i < size; i++) {
+            a[i] = random.nextGaussian();
+            b[i] = random.nextGaussian();
+            c[i] = random.nextGaussian();
+        }
+        // corner case and overflow
+        a[0] = 0;
+        a[1] = Double.MIN_VALUE;
+        try (SolverClient client = new SolverClient(server.getAddress())) {
+            for (QuadraticEquationSolver.Type type : QuadraticEquationSolver.Type.values()) {
+                if (!QuadraticEquationSolverFactory.isAvailable(type)) {
+                    continue;
+                }
+                int length = type == QuadraticEquationSolver.Type.SIMPLE_AP ? 100 : size;
+                double[][] roots = new double[4][size];
+                int[][] rootCount = new int[2][size];
+                byte[][] status = new byte[2][size];
+                QuadraticEquationSolverFactory.getSolver(type)
+                    .solve(a, b, c, 0, length, roots[0], roots[1], rootCount[0], status[0]);
+                client.solve(type, a, b, c, 0, length, roots[2], roots[3], rootCount[1], status[1]);
+                Assert.assertEquals(roots[2], roots[0], type.toString());
+                Assert.assertEquals(roots[3], roots[1], type.toString());
+                Assert.assertEquals(rootCount[1], rootCount[0], type.toString());
+                Assert.assertEquals(status[1], status[0], type.toString());
+            }
+        }
+    }
+
+    @Test
+    public void testConcurrentClients() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<?>[] futures = new Future<?>[4];
+            for (int t = 0; t < futures.length; t++) {
+                futures[t] = executor.submit(() -> {
+                    try (SolverClient client = new SolverClient(server.getAddress())) {
+                        double[] root1 = new double[2];
+                        double[] root2 = new double[2];
+                        int[] rootCount = new int[2];
+                        byte[] status = new byte[2];
+                        for (int i = 0; i < 1000; i++) {
+                            client.solve(
+                                QuadraticEquationSolver.Type.CITARDAUQ,
+                                new double[] {1, 1}, new double[] {-i - 3, -3}, new double[] {i + 2, 2}, 0, 2,
+                                root1, root2, rootCount, status
+                            );
+                            Assert.assertEquals(root1, new double[] {i + 2, 2});
+                            Assert.assertEquals(root2, new double[] {1, 1});
+                        }
+                    }
+                    return null;
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    @Test
+    public void testMalformedFrameClosesConnection() throws IOException {
+        try (Socket socket = new Socket(server.getAddress().getAddress(), server.getAddress().getPort())) {
+            OutputStream out = socket.getOutputStream();
+            // frame of 2 bytes cannot hold whole number of equations
+            out.write(new byte[] {2, 0, 0, 0, 0, 0});
+            out.flush();
+            socket.setSoTimeout(10000);
+            Assert.assertEquals(socket.getInputStream().read(), -1);
+        }
+    }
+}